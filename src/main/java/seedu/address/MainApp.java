@@ -16,6 +16,7 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.CompressionMode;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -23,8 +24,12 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AsyncAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,7 +62,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = new AsyncAddressBookStorage(initAddressBookStorage(userPrefs));
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,6 +72,30 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file and storage mode in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using storage mode : " + userPrefs.getStorageMode());
+        Path filePath = userPrefs.getAddressBookFilePath();
+        CompressionMode compression = userPrefs.getCompressionMode();
+        int compressionLevel = userPrefs.getCompressionLevel();
+        switch (userPrefs.getStorageMode()) {
+        case JOURNALED:
+            return new JournaledAddressBookStorage(filePath, userPrefs.isCompactDataFile(), compression,
+                    compressionLevel);
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath, userPrefs.isLazyAttendanceLoading(), compression,
+                    compressionLevel);
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath, userPrefs.isCompactDataFile(),
+                    userPrefs.isLazyAttendanceLoading(), compression, compressionLevel);
+        default:
+            return new JsonAddressBookStorage(filePath, userPrefs.isCompactDataFile(),
+                    userPrefs.isLazyAttendanceLoading(), compression, compressionLevel);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -185,6 +214,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
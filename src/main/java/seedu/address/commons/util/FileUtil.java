@@ -1,6 +1,20 @@
 package seedu.address.commons.util;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
@@ -12,6 +26,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +95,97 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Opens a buffered stream that replaces the content of the given file.
+     * Will create the file if it does not exist yet. The caller is responsible for closing the stream.
+     */
+    public static OutputStream openBufferedOutputStream(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, CREATE, WRITE, TRUNCATE_EXISTING);
+        return new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+    }
+
+    /**
+     * Similar to {@link #openBufferedOutputStream(Path)}, but closing the stream also forces everything written
+     * to it onto the storage device, so that the content survives a crash once the stream is closed.
+     */
+    public static OutputStream openDurableOutputStream(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, CREATE, WRITE, TRUNCATE_EXISTING);
+        return new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE) {
+            private boolean isClosed;
+
+            @Override
+            public void close() throws IOException {
+                if (isClosed) {
+                    return;
+                }
+                isClosed = true;
+                try {
+                    flush();
+                    channel.force(true);
+                } finally {
+                    super.close();
+                }
+            }
+        };
+    }
+
+    /**
+     * Appends {@code bytes} to the given file and forces them onto the storage device, so that they survive a crash
+     * once this returns. Will create the file if it does not exist yet.
+     * If the append fails part way, the file is cut back to its previous length where possible, so that no partial
+     * content is left behind for later appends to follow.
+     */
+    public static void appendDurably(Path file, byte[] bytes) throws IOException {
+        boolean isNewFile = !Files.exists(file);
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE, APPEND)) {
+            long previousSize = channel.size();
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            } catch (IOException e) {
+                try {
+                    channel.truncate(previousSize);
+                    channel.force(true);
+                } catch (IOException truncateException) {
+                    e.addSuppressed(truncateException);
+                }
+                throw e;
+            }
+        }
+        if (isNewFile) {
+            syncDirectory(file.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, replacing it, so that {@code target} is never seen half written.
+     * The move is atomic where the file system supports it.
+     */
+    public static void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+        syncDirectory(target.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces the entries of {@code directory} onto the storage device, so that a file moved into it survives
+     * a crash. Does nothing on platforms where directories cannot be opened for this.
+     */
+    private static void syncDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // not supported on every platform, such as Windows
+        }
+    }
+
 }
@@ -6,6 +6,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Name;
 
 /**
@@ -17,7 +18,10 @@ public final class AttendanceMessages {
 
     public static final String MESSAGE_EVENT_NOT_FOUND = "Event not found";
     public static final String MESSAGE_MEMBER_NOT_FOUND = "Member not found: %1$s";
+    public static final String MESSAGE_MEMBERS_NOT_FOUND = "Members not found: %1$s";
     public static final String MESSAGE_MEMBER_NOT_FOUND_IN_LIST = "Member not found in attendance list: %1$s";
+    public static final String MESSAGE_AMBIGUOUS_MEMBER =
+            "Several members are named %1$s, with student numbers %2$s. Rename them so that each name is unique.";
 
     public static final String MESSAGE_ALREADY_ADDED_SINGLE = "Member already added: %1$s";
     public static final String MESSAGE_ALREADY_ADDED_MULTIPLE = "Members already added: %1$s";
@@ -47,6 +51,27 @@ public final class AttendanceMessages {
                 .collect(Collectors.joining(", "));
     }
 
+    /**
+     * Formats a message describing a name that several members, with the given IDs, share.
+     */
+    public static String formatAmbiguousMember(Name name, List<MemberId> memberIds) {
+        requireNonNull(name);
+        requireNonNull(memberIds);
+        return String.format(MESSAGE_AMBIGUOUS_MEMBER, name, formatNames(memberIds));
+    }
+
+    /**
+     * Formats a message describing members that could not be found.
+     */
+    public static String formatMembersNotFound(List<Name> unknownMembers) {
+        requireNonNull(unknownMembers);
+        String nameText = formatNames(unknownMembers);
+        if (unknownMembers.size() <= 1) {
+            return String.format(MESSAGE_MEMBER_NOT_FOUND, nameText);
+        }
+        return String.format(MESSAGE_MEMBERS_NOT_FOUND, nameText);
+    }
+
     /**
      * Formats a message describing members that were already present.
      */
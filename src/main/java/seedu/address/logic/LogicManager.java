@@ -13,6 +13,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookVersion;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
@@ -34,14 +35,17 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private AddressBookVersion savedVersion; // version of the address book last written to storage
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book in {@code model} is assumed to match what {@code storage} already holds.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedVersion = model.getAddressBookVersion();
     }
 
     @Override
@@ -59,23 +63,68 @@ public class LogicManager implements Logic {
 
         try {
             commandResult = command.execute(model);
-
-            try {
-                storage.saveAddressBook(model.getAddressBook());
-            } catch (AccessDeniedException e) {
-                throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-            } catch (IOException ioe) {
-                throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
-            }
-
-            return commandResult;
         } catch (CommandException e) {
-            // If command execution fails and we committed state, we need to rollback the commit
+            // If command execution fails and we committed state, undo whatever it changed before failing
             if (shouldCommit) {
                 model.rollbackLastCommit();
             }
             throw e;
         }
+        if (shouldCommit) {
+            // the history only holds the changes of the command now, which may take it over its memory limit
+            model.enforceUndoHistoryLimits();
+        }
+
+        saveAddressBookIfChanged();
+        if (commandResult.isExit()) {
+            flushStorage();
+        }
+        return commandResult;
+    }
+
+    /**
+     * Saves the address book to storage, unless it has not changed since it was last saved.
+     */
+    private void saveAddressBookIfChanged() throws CommandException {
+        try {
+            // A save that was still being written in the background when the previous command finished may have failed
+            storage.checkSaveFailure();
+        } catch (IOException ioe) {
+            savedVersion = null; // the file is out of date, so save again on the next command
+            throw toCommandException(ioe);
+        }
+
+        AddressBookVersion currentVersion = model.getAddressBookVersion();
+        if (currentVersion.equals(savedVersion)) {
+            logger.fine("Address book unchanged, skipping save");
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(model.getAddressBook());
+        } catch (IOException ioe) {
+            throw toCommandException(ioe);
+        }
+        savedVersion = currentVersion;
+    }
+
+    /**
+     * Waits for every pending save to be written.
+     */
+    private void flushStorage() throws CommandException {
+        try {
+            storage.flush();
+        } catch (IOException ioe) {
+            savedVersion = null;
+            throw toCommandException(ioe);
+        }
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
     }
 
     /**
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -15,6 +16,7 @@ import seedu.address.model.Model;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Name;
 
 /**
@@ -82,12 +84,12 @@ public class AddAttendanceCommand extends Command {
         List<Name> membersToAdd = new ArrayList<>();
         List<Name> duplicateMembers = new ArrayList<>();
 
-        for (Name name : uniqueNames) {
-            if (!memberExists(model, name)) {
-                throw new CommandException(String.format(MESSAGE_MEMBER_NOT_FOUND, name));
-            }
+        List<MemberId> memberIdsToAdd = new ArrayList<>();
 
-            Attendance attendance = new Attendance(eventId, name);
+        Map<Name, MemberId> memberIds = AttendanceCommandUtil.resolveMemberIds(model, uniqueNames);
+        for (Name name : uniqueNames) {
+            MemberId memberId = memberIds.get(name);
+            Attendance attendance = new Attendance(eventId, memberId);
             if (model.hasAttendance(attendance)) {
                 assert !duplicateMembers.contains(name);
                 duplicateMembers.add(name);
@@ -95,23 +97,19 @@ public class AddAttendanceCommand extends Command {
             }
 
             membersToAdd.add(name);
+            memberIdsToAdd.add(memberId);
         }
 
         List<Name> addedMembers = new ArrayList<>(membersToAdd.size());
-        for (Name name : membersToAdd) {
-            Attendance attendance = new Attendance(eventId, name);
+        for (int i = 0; i < membersToAdd.size(); i++) {
+            Attendance attendance = new Attendance(eventId, memberIdsToAdd.get(i));
             model.addAttendance(attendance);
-            addedMembers.add(name);
+            addedMembers.add(membersToAdd.get(i));
         }
 
         return new AttendanceUpdateSummary(addedMembers, duplicateMembers);
     }
 
-    private boolean memberExists(Model model, Name name) {
-        return model.getAddressBook().getPersonList().stream()
-                .anyMatch(person -> person.getName().equals(name));
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -2,13 +2,25 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import seedu.address.logic.AttendanceMessages;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.event.EventId;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 
 /**
  * Shared helpers for attendance-related commands.
@@ -20,16 +32,114 @@ public final class AttendanceCommandUtil {
     }
 
     /**
-     * Collects attendance records for the given event and returns them mapped by member name.
+     * Returns the attendance record of the given event of the member with each of {@code names}, in the order given.
+     * Names that no member with a record has are left out.
+     *
+     * @throws CommandException if several members with a record share one of {@code names}.
      */
-    public static Map<Name, Attendance> collectAttendanceByName(Model model, EventId eventId) {
+    public static Map<Name, Attendance> collectAttendanceByName(Model model, EventId eventId, Collection<Name> names)
+            throws CommandException {
         requireNonNull(model);
         requireNonNull(eventId);
+        requireNonNull(names);
 
-        Map<Name, Attendance> result = new LinkedHashMap<>();
-        model.getAddressBook().getAttendanceList().stream()
-                .filter(attendance -> attendance.getEventId().equals(eventId))
-                .forEach(attendance -> result.put(attendance.getMemberName(), attendance));
+        return resolveByName(model, model.getAttendancesOfEvent(eventId), Attendance::getMemberId, names);
+    }
+
+    /**
+     * Returns the member with each of {@code names} that has an attendance record of the given event, in the order
+     * given, without loading the records themselves. Names that no member with a record has are left out.
+     *
+     * @throws CommandException if several members with a record share one of {@code names}.
+     */
+    public static Map<Name, MemberId> collectMembersByName(Model model, EventId eventId, Collection<Name> names)
+            throws CommandException {
+        requireNonNull(model);
+        requireNonNull(eventId);
+        requireNonNull(names);
+
+        return resolveByName(model, model.getMembersOfEvent(eventId), memberId -> memberId, names);
+    }
+
+    /**
+     * Returns the element of {@code elements} whose member has each of {@code names}, leaving out names that none
+     * has. This is how every attendance command resolves names, so that a name shared by several members is never
+     * quietly resolved to one of them.
+     *
+     * @throws CommandException if the members of several elements share one of {@code names}.
+     */
+    private static <T> Map<Name, T> resolveByName(Model model, List<T> elements, Function<T, MemberId> memberIdOf,
+            Collection<Name> names) throws CommandException {
+        Set<Name> wantedNames = new HashSet<>(names);
+        Map<Name, List<T>> elementsByName = new HashMap<>();
+        for (T element : elements) {
+            Name name = getMemberName(model, memberIdOf.apply(element));
+            if (wantedNames.contains(name)) {
+                elementsByName.computeIfAbsent(name, unused -> new ArrayList<>(1)).add(element);
+            }
+        }
+
+        Map<Name, T> result = new LinkedHashMap<>();
+        for (Name name : names) {
+            List<T> namedElements = elementsByName.getOrDefault(name, List.of());
+            if (namedElements.size() > 1) {
+                throw new CommandException(AttendanceMessages.formatAmbiguousMember(name,
+                        namedElements.stream().map(memberIdOf).collect(Collectors.toList())));
+            }
+            if (!namedElements.isEmpty()) {
+                result.put(name, namedElements.get(0));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the current name of the member that {@code attendance} belongs to.
+     */
+    public static Name getMemberName(Model model, Attendance attendance) {
+        requireNonNull(attendance);
+        return getMemberName(model, attendance.getMemberId());
+    }
+
+    /**
+     * Returns the current name of the member {@code memberId}.
+     * Records are removed along with their member, but should one be left behind, it is named by its member ID.
+     */
+    public static Name getMemberName(Model model, MemberId memberId) {
+        requireNonNull(model);
+        requireNonNull(memberId);
+
+        Person member = model.getPersonByMemberId(memberId);
+        return member != null ? member.getName() : new Name(memberId.value);
+    }
+
+    /**
+     * Returns the member ID of each of {@code names}, in the order given.
+     *
+     * @throws CommandException naming every one of {@code names} that no member has, if there are any, or if several
+     *     members share one of {@code names}.
+     */
+    public static Map<Name, MemberId> resolveMemberIds(Model model, Collection<Name> names) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(names);
+
+        Map<Name, List<Person>> persons = model.getPersonsByName(names);
+        List<Name> unknownNames = names.stream()
+                .filter(name -> !persons.containsKey(name))
+                .distinct()
+                .collect(Collectors.toList());
+        if (!unknownNames.isEmpty()) {
+            throw new CommandException(AttendanceMessages.formatMembersNotFound(unknownNames));
+        }
+
+        Map<Name, MemberId> result = new LinkedHashMap<>();
+        for (Map.Entry<Name, List<Person>> entry : persons.entrySet()) {
+            List<MemberId> memberIds = entry.getValue().stream().map(Person::getMemberId).collect(Collectors.toList());
+            if (memberIds.size() > 1) {
+                throw new CommandException(AttendanceMessages.formatAmbiguousMember(entry.getKey(), memberIds));
+            }
+            result.put(entry.getKey(), memberIds.get(0));
+        }
         return result;
     }
 }
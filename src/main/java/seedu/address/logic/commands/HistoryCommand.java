@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+import seedu.address.model.UndoHistoryStatistics;
+
+/**
+ * Reports the size and estimated memory usage of the undo history.
+ */
+public class HistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "history";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how many commands can be undone and redone, "
+            + "and how much memory the undo history is estimated to use.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Undo history: %1$d of at most %2$d command(s) can be undone, "
+            + "%3$d can be redone.\n"
+            + "Estimated memory: %4$s of at most %5$s.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        UndoHistoryStatistics statistics = model.getUndoHistoryStatistics();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, statistics.getUndoCount(), statistics.getMaxDepth(),
+                statistics.getRedoCount(), formatBytes(statistics.getEstimatedBytes()),
+                formatBytes(statistics.getMaxBytes())));
+    }
+
+    /**
+     * Formats {@code bytes} using the largest of B, KB and MB that keeps the value at least 1.
+     */
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        return String.format("%.1f MB", bytes / (1024.0 * 1024));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof HistoryCommand; // All HistoryCommand instances are equal
+    }
+
+    @Override
+    public String toString() {
+        return "HistoryCommand";
+    }
+}
@@ -3,9 +3,11 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -13,9 +15,9 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.AttendanceMessages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.attendance.Attendance;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Name;
 
 /**
@@ -58,10 +60,9 @@ public class MarkAttendanceCommand extends Command {
             throw new CommandException(MESSAGE_EVENT_NOT_FOUND);
         }
 
-        Map<Name, Attendance> attendanceByName = AttendanceCommandUtil.collectAttendanceByName(model, eventId);
-
         List<Name> targetNames = new ArrayList<>(new LinkedHashSet<>(memberNames));
-        AttendanceMarkingSummary summary = markAttendance(model, attendanceByName, targetNames);
+        Map<Name, MemberId> membersByName = AttendanceCommandUtil.collectMembersByName(model, eventId, targetNames);
+        AttendanceMarkingSummary summary = markAttendance(model, membersByName, targetNames);
 
         logger.fine(() -> String.format(
                 "Marked attendance for event %s: newlyMarked=%d, alreadyMarked=%d",
@@ -103,19 +104,20 @@ public class MarkAttendanceCommand extends Command {
     }
 
     private AttendanceMarkingSummary markAttendance(Model model,
-                                                    Map<Name, Attendance> attendanceByName,
+                                                    Map<Name, MemberId> membersByName,
                                                     List<Name> targetNames) throws CommandException {
         List<Name> newlyMarked = new ArrayList<>();
         List<Name> alreadyMarked = new ArrayList<>();
-        List<Attendance> attendancesToMark = new ArrayList<>();
+        List<MemberId> membersToMark = new ArrayList<>();
+        Set<MemberId> attendees = new HashSet<>(model.getAttendeesOfEvent(eventId));
 
         for (Name name : targetNames) {
-            Attendance attendance = attendanceByName.get(name);
-            if (attendance == null) {
+            MemberId memberId = membersByName.get(name);
+            if (memberId == null) {
                 throw new CommandException(String.format(MESSAGE_MEMBER_NOT_FOUND, name));
             }
 
-            if (attendance.hasAttended()) {
+            if (attendees.contains(memberId)) {
                 assert !alreadyMarked.contains(name);
                 alreadyMarked.add(name);
                 continue;
@@ -123,12 +125,11 @@ public class MarkAttendanceCommand extends Command {
 
             assert !newlyMarked.contains(name);
             newlyMarked.add(name);
-            attendancesToMark.add(attendance);
+            membersToMark.add(memberId);
         }
 
-        for (Attendance attendance : attendancesToMark) {
-            Attendance updatedAttendance = attendance.markAttended();
-            model.setAttendance(attendance, updatedAttendance);
+        if (!membersToMark.isEmpty()) {
+            model.setAttendanceOfMembers(eventId, membersToMark, true);
         }
 
         return new AttendanceMarkingSummary(newlyMarked, alreadyMarked);
@@ -55,9 +55,9 @@ public class RemoveAttendanceCommand extends Command {
             throw new CommandException(MESSAGE_EVENT_NOT_FOUND);
         }
 
-        Map<Name, Attendance> attendanceByName = AttendanceCommandUtil.collectAttendanceByName(model, eventId);
-
         List<Name> targetNames = new ArrayList<>(new LinkedHashSet<>(memberNames));
+        Map<Name, Attendance> attendanceByName = AttendanceCommandUtil.collectAttendanceByName(model, eventId,
+                targetNames);
         List<Name> removedMembers = removeAttendees(model, attendanceByName, targetNames);
 
         logger.fine(() -> String.format("Removed %d member(s) from event %s",
@@ -2,7 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -10,9 +12,9 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.AttendanceMessages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.attendance.Attendance;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
+import seedu.address.model.person.MemberId;
 
 /**
  * Displays a summary of attendance for an event.
@@ -55,21 +57,20 @@ public class ShowAttendanceCommand extends Command {
             throw new CommandException(MESSAGE_EVENT_NOT_FOUND);
         }
 
-        List<Attendance> eventAttendances = model.getAddressBook().getAttendanceList().stream()
-                .filter(attendance -> attendance.getEventId().equals(eventId))
-                .collect(Collectors.toList());
+        List<MemberId> members = model.getMembersOfEvent(eventId);
+        Set<MemberId> attendees = new HashSet<>(model.getAttendeesOfEvent(eventId));
 
-        List<String> attendedNames = eventAttendances.stream()
-                .filter(Attendance::hasAttended)
-                .map(attendance -> attendance.getMemberName().toString())
+        List<String> attendedNames = members.stream()
+                .filter(attendees::contains)
+                .map(memberId -> AttendanceCommandUtil.getMemberName(model, memberId).toString())
                 .collect(Collectors.toList());
 
-        List<String> absentNames = eventAttendances.stream()
-                .filter(attendance -> !attendance.hasAttended())
-                .map(attendance -> attendance.getMemberName().toString())
+        List<String> absentNames = members.stream()
+                .filter(memberId -> !attendees.contains(memberId))
+                .map(memberId -> AttendanceCommandUtil.getMemberName(model, memberId).toString())
                 .collect(Collectors.toList());
 
-        assert attendedNames.size() + absentNames.size() == eventAttendances.size();
+        assert attendedNames.size() + absentNames.size() == members.size();
 
         String attendedText = AttendanceMessages.formatNames(attendedNames);
         String absentText = AttendanceMessages.formatNames(absentNames);
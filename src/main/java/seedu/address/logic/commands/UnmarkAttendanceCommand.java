@@ -3,18 +3,20 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.AttendanceMessages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.attendance.Attendance;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Name;
 
 /**
@@ -56,10 +58,9 @@ public class UnmarkAttendanceCommand extends Command {
             throw new CommandException(MESSAGE_EVENT_NOT_FOUND);
         }
 
-        Map<Name, Attendance> attendanceByName = AttendanceCommandUtil.collectAttendanceByName(model, eventId);
-
         List<Name> targetNames = new ArrayList<>(new LinkedHashSet<>(memberNames));
-        AttendanceUnmarkingSummary summary = unmarkAttendance(model, attendanceByName, targetNames);
+        Map<Name, MemberId> membersByName = AttendanceCommandUtil.collectMembersByName(model, eventId, targetNames);
+        AttendanceUnmarkingSummary summary = unmarkAttendance(model, membersByName, targetNames);
 
         logger.fine(() -> String.format(
                 "Unmarked attendance for event %s: newlyAbsent=%d, alreadyAbsent=%d",
@@ -77,19 +78,20 @@ public class UnmarkAttendanceCommand extends Command {
     }
 
     private AttendanceUnmarkingSummary unmarkAttendance(Model model,
-                                                        Map<Name, Attendance> attendanceByName,
+                                                        Map<Name, MemberId> membersByName,
                                                         List<Name> targetNames) throws CommandException {
         List<Name> newlyAbsent = new ArrayList<>();
         List<Name> alreadyAbsent = new ArrayList<>();
-        List<Attendance> attendancesToUnmark = new ArrayList<>();
+        List<MemberId> membersToUnmark = new ArrayList<>();
+        Set<MemberId> attendees = new HashSet<>(model.getAttendeesOfEvent(eventId));
 
         for (Name name : targetNames) {
-            Attendance attendance = attendanceByName.get(name);
-            if (attendance == null) {
+            MemberId memberId = membersByName.get(name);
+            if (memberId == null) {
                 throw new CommandException(String.format(MESSAGE_MEMBER_NOT_FOUND, name));
             }
 
-            if (!attendance.hasAttended()) {
+            if (!attendees.contains(memberId)) {
                 assert !alreadyAbsent.contains(name);
                 alreadyAbsent.add(name);
                 continue;
@@ -97,12 +99,11 @@ public class UnmarkAttendanceCommand extends Command {
 
             assert !newlyAbsent.contains(name);
             newlyAbsent.add(name);
-            attendancesToUnmark.add(attendance);
+            membersToUnmark.add(memberId);
         }
 
-        for (Attendance attendance : attendancesToUnmark) {
-            Attendance updatedAttendance = attendance.markAbsent();
-            model.setAttendance(attendance, updatedAttendance);
+        if (!membersToUnmark.isEmpty()) {
+            model.setAttendanceOfMembers(eventId, membersToUnmark, false);
         }
 
         return new AttendanceUnmarkingSummary(newlyAbsent, alreadyAbsent);
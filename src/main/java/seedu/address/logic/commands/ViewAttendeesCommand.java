@@ -2,15 +2,17 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.attendance.Attendance;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
+import seedu.address.model.person.MemberId;
 
 /**
  * Views attendees for an event.
@@ -45,20 +47,19 @@ public class ViewAttendeesCommand extends Command {
             throw new CommandException(MESSAGE_EVENT_NOT_FOUND);
         }
 
-        // Get all attendance records for this event
-        List<Attendance> eventAttendances = model.getAddressBook().getAttendanceList().stream()
-                .filter(attendance -> attendance.getEventId().equals(eventId))
-                .collect(Collectors.toList());
+        // Get all members with an attendance record for this event
+        List<MemberId> members = model.getMembersOfEvent(eventId);
 
-        if (eventAttendances.isEmpty()) {
+        if (members.isEmpty()) {
             return new CommandResult(MESSAGE_NO_ATTENDANCE);
         }
 
         // Format the attendance list with their status
-        String attendanceList = eventAttendances.stream()
-                .map(attendance -> {
-                    String status = attendance.hasAttended() ? "Attended" : "Absent";
-                    return "• " + attendance.getMemberName() + " (" + status + ")";
+        Set<MemberId> attendees = new HashSet<>(model.getAttendeesOfEvent(eventId));
+        String attendanceList = members.stream()
+                .map(memberId -> {
+                    String status = attendees.contains(memberId) ? "Attended" : "Absent";
+                    return "• " + AttendanceCommandUtil.getMemberName(model, memberId) + " (" + status + ")";
                 })
                 .collect(Collectors.joining("\n"));
 
@@ -10,6 +10,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.SetExpenseCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.common.Money;
+import seedu.address.model.event.Event;
 
 /**
  * Parses input arguments and creates a new SetExpenseCommand object
@@ -63,7 +64,15 @@ public class SetExpenseCommandParser implements Parser<SetExpenseCommand> {
             throw new ParseException(MESSAGE_INVALID_AMOUNT_FORMAT);
         }
 
-        Money amount = Money.parse(amountString);
+        Money amount;
+        try {
+            amount = Money.parse(amountString);
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(Event.EXPENSE_CONSTRAINTS);
+        }
+        if (!Event.isValidExpense(amount)) {
+            throw new ParseException(Event.EXPENSE_CONSTRAINTS);
+        }
         return new SetExpenseCommand(index, amount);
     }
 
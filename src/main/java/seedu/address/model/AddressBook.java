@@ -2,17 +2,28 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.SerializedEventAttendance;
 import seedu.address.model.attendance.UniqueAttendanceList;
 import seedu.address.model.budget.Budget;
+import seedu.address.model.common.Money;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventId;
 import seedu.address.model.event.UniqueEventList;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentNumber;
@@ -31,23 +42,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueAttendanceList attendances;
     private final UniqueTaskList tasks;
     private Budget budget; // nullable
+    private Consumer<ReversibleEdit> editListener; // nullable
 
-    /*
-     * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
-     * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other ways to avoid duplication
-     *   among constructors.
-     */
-    {
-        persons = new UniquePersonList();
-        events = new UniqueEventList();
-        attendances = new UniqueAttendanceList();
-        tasks = new UniqueTaskList();
+    public AddressBook() {
+        this(new UniquePersonList(), new UniqueEventList(), new UniqueAttendanceList(), new UniqueTaskList(), null);
     }
 
-    public AddressBook() {}
-
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
      */
@@ -56,6 +56,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    private AddressBook(UniquePersonList persons, UniqueEventList events, UniqueAttendanceList attendances,
+            UniqueTaskList tasks, Budget budget) {
+        this.persons = persons;
+        this.events = events;
+        this.attendances = attendances;
+        this.tasks = tasks;
+        this.budget = budget;
+    }
+
     //// list overwrite operations
 
     /**
@@ -88,11 +97,126 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // Lists of another AddressBook are already unique, so copy them without re-validating.
+            // Lists whose contents are already identical (same version) are left untouched.
+            AddressBook other = (AddressBook) newData;
+            if (persons.getVersion() != other.persons.getVersion()) {
+                persons.setPersons(other.persons);
+            }
+            if (events.getVersion() != other.events.getVersion()) {
+                events.setEvents(other.events);
+            }
+            if (attendances.getVersion() != other.attendances.getVersion()) {
+                attendances.setAttendances(other.attendances);
+            }
+            if (tasks.getVersion() != other.tasks.getVersion()) {
+                tasks.setTasks(other.tasks);
+            }
+            updateBudget(other.budget);
+            return;
+        }
+
         setPersons(newData.getPersonList());
         setEvents(newData.getEventList());
-        setAttendances(newData.getAttendanceList());
+        setAttendances(newData.getLoadedAttendanceList());
+        newData.getUnloadedAttendanceList().forEach(this::addUnloadedAttendance);
         setTasks(newData.getTaskList());
-        this.budget = newData.getBudget().orElse(null);
+        updateBudget(newData.getBudget().orElse(null));
+    }
+
+    /**
+     * Returns an immutable copy of the current data, such as for the undo/redo history or for saving in the
+     * background. Lists that have not changed since {@code base} was taken are shared with {@code base} instead of
+     * being copied, so neither {@code base} nor the returned copy may be modified afterwards.
+     *
+     * @param base a previous snapshot of this address book, or null if there is none.
+     */
+    public AddressBook snapshot(AddressBook base) {
+        if (base == null) {
+            return new AddressBook(copyOf(persons, UniquePersonList::new), copyOf(events, UniqueEventList::new),
+                    copyOf(attendances, UniqueAttendanceList::new), copyOf(tasks, UniqueTaskList::new), budget);
+        }
+        return new AddressBook(shareOrCopy(persons, base.persons, UniquePersonList::new),
+                shareOrCopy(events, base.events, UniqueEventList::new),
+                shareOrCopy(attendances, base.attendances, UniqueAttendanceList::new),
+                shareOrCopy(tasks, base.tasks, UniqueTaskList::new),
+                budget);
+    }
+
+    /**
+     * Returns {@code previous} if it holds the same contents as {@code current}, otherwise a copy of {@code current}.
+     */
+    private static <T, L extends UniqueList<T>> L shareOrCopy(L current, L previous, Supplier<L> listFactory) {
+        return previous.getVersion() == current.getVersion() ? previous : copyOf(current, listFactory);
+    }
+
+    private static <T, L extends UniqueList<T>> L copyOf(L source, Supplier<L> listFactory) {
+        L copy = listFactory.get();
+        copy.setAllFromOther(source);
+        return copy;
+    }
+
+    /**
+     * Returns the version of the current contents of this address book.
+     */
+    public AddressBookVersion getVersion() {
+        return new AddressBookVersion(persons.getVersion(), events.getVersion(), attendances.getVersion(),
+                tasks.getVersion(), budget);
+    }
+
+    // The latest change made to each list, which the changes made since an earlier one can be listed from, so that
+    // they are saved without comparing the lists
+
+    public ListChange<Person> getLastPersonChange() {
+        return persons.getLastChange();
+    }
+
+    public ListChange<Event> getLastEventChange() {
+        return events.getLastChange();
+    }
+
+    public ListChange<Attendance> getLastAttendanceChange() {
+        return attendances.getLastChange();
+    }
+
+    public ListChange<Task> getLastTaskChange() {
+        return tasks.getLastChange();
+    }
+
+    /**
+     * Reports every subsequent change to this address book to {@code listener} as a {@link ReversibleEdit}.
+     * Pass null to stop reporting changes.
+     */
+    void setEditListener(Consumer<ReversibleEdit> listener) {
+        editListener = listener;
+        persons.setEditListener(listener);
+        events.setEditListener(listener);
+        attendances.setEditListener(listener);
+        tasks.setEditListener(listener);
+    }
+
+    /**
+     * Returns a rough estimate of the memory, in bytes, held by the lists of this address book.
+     * Lists already present in {@code counted} are skipped, and every list counted is added to it, so that lists
+     * shared between several snapshots are only counted once.
+     */
+    long getEstimatedBytes(Set<UniqueList<?>> counted) {
+        long total = 0;
+        for (UniqueList<?> list : List.of(persons, events, attendances, tasks)) {
+            if (counted.add(list)) {
+                total += list.getEstimatedBytes();
+            }
+        }
+        return total;
+    }
+
+    private void updateBudget(Budget newBudget) {
+        Budget oldBudget = budget;
+        budget = newBudget;
+        if (editListener != null && !Objects.equals(oldBudget, newBudget)) {
+            editListener.accept(ReversibleEdit.of(() -> budget = oldBudget, () -> budget = newBudget));
+        }
     }
 
     //// person-level operations
@@ -110,11 +234,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Comparison is case-insensitive to prevent duplicates like 'a1234567a' and 'A1234567A'.
      */
     public boolean hasStudentNumber(StudentNumber studentNumber) {
-        requireNonNull(studentNumber);
-        String studentNumberLower = studentNumber.value.toLowerCase();
-        return persons.asUnmodifiableObservableList().stream()
-            .anyMatch(existingPerson -> existingPerson.getStudentNumber().value
-                    .toLowerCase().equals(studentNumberLower));
+        return getPersonByStudentNumber(studentNumber) != null;
     }
 
     /**
@@ -144,6 +264,30 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Returns the person with the specified member ID, or null if not found.
+     */
+    public Person getPersonByMemberId(MemberId memberId) {
+        requireNonNull(memberId);
+        return persons.getPerson(memberId);
+    }
+
+    /**
+     * Returns the persons with the specified name, in the order they were added.
+     */
+    public List<Person> getPersonsByName(Name name) {
+        requireNonNull(name);
+        return persons.getPersons(name);
+    }
+
+    /**
+     * Returns the person with the specified student number, compared case-insensitively, or null if not found.
+     */
+    public Person getPersonByStudentNumber(StudentNumber studentNumber) {
+        requireNonNull(studentNumber);
+        return persons.getPerson(MemberId.of(studentNumber));
+    }
+
     //// event-level operations
 
     /**
@@ -184,12 +328,45 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Returns the event with the specified event ID, or null if not found.
      */
-    public Event getEventByEventId(seedu.address.model.event.EventId eventId) {
+    public Event getEventByEventId(EventId eventId) {
         requireNonNull(eventId);
-        return events.asUnmodifiableObservableList().stream()
-                .filter(event -> event.getEventId().equals(eventId))
-                .findFirst()
-                .orElse(null);
+        return events.getEvent(eventId);
+    }
+
+    /**
+     * Returns an unmodifiable view of the events by their event ID, which stays in sync with the event list.
+     */
+    public Map<EventId, Event> getEventsByEventId() {
+        return events.asUnmodifiableEventIdMap();
+    }
+
+    /**
+     * Returns the events dated from {@code start} to {@code end} inclusive, in chronological order.
+     */
+    public List<Event> getEventsWithin(LocalDate start, LocalDate end) {
+        return events.getEventsWithin(start, end);
+    }
+
+    /**
+     * Returns every event in chronological order.
+     */
+    public List<Event> getEventsInDateOrder() {
+        return events.getEventsInDateOrder();
+    }
+
+    /**
+     * Returns the total expense of the events dated from {@code start} to {@code end} inclusive.
+     */
+    public Money getTotalExpenseWithin(LocalDate start, LocalDate end) {
+        return events.getTotalExpenseWithin(start, end);
+    }
+
+    /**
+     * Returns the total expense of the events dated from {@code start} to {@code end} inclusive, for each
+     * consecutive period of length {@code period} from {@code start}, keyed by the first date of the period.
+     */
+    public Map<LocalDate, Money> getExpenseBreakdownWithin(LocalDate start, LocalDate end, Period period) {
+        return events.getExpenseBreakdownWithin(start, end, period);
     }
 
     //// attendance-level operations
@@ -203,17 +380,61 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Renames attendance entries for the given member.
+     * Adds the attendance records in {@code attendance} without loading them until they are first needed.
+     * The address book must not already hold any attendance record of the same event.
+     */
+    public void addUnloadedAttendance(SerializedEventAttendance attendance) {
+        attendances.addUnloaded(attendance);
+    }
+
+    /**
+     * Returns the attendance records of the event {@code eventId}, loading them if needed.
      */
-    public void renameAttendanceForMember(Name oldName, Name newName) {
-        attendances.renameMember(oldName, newName);
+    public List<Attendance> getAttendancesOfEvent(EventId eventId) {
+        return attendances.getAttendancesOfEvent(eventId);
+    }
+
+    /**
+     * Returns the members that have an attendance record of the event {@code eventId}.
+     */
+    public List<MemberId> getMembersOfEvent(EventId eventId) {
+        return attendances.getMembersOfEvent(eventId);
+    }
+
+    /**
+     * Returns the members that are marked as attended at the event {@code eventId}.
+     */
+    public List<MemberId> getAttendeesOfEvent(EventId eventId) {
+        return attendances.getAttendeesOfEvent(eventId);
+    }
+
+    /**
+     * Marks the attendance records of the members {@code memberIds} at the event {@code eventId} as attended, or as
+     * absent if {@code hasAttended} is false.
+     */
+    public void setAttendanceOfMembers(EventId eventId, Collection<MemberId> memberIds, boolean hasAttended) {
+        attendances.setAttendanceOfMembers(eventId, memberIds, hasAttended);
+    }
+
+    /**
+     * Returns the attendance records of the member {@code memberId}, loading them if needed.
+     */
+    public List<Attendance> getAttendancesOfMember(MemberId memberId) {
+        return attendances.getAttendancesOfMember(memberId);
+    }
+
+    /**
+     * Moves the attendance entries of the member {@code oldId} to the member {@code newId}.
+     */
+    public void reassignAttendanceForMember(MemberId oldId, MemberId newId) {
+        attendances.reassignMember(oldId, newId);
     }
 
     /**
      * Removes all attendance entries for the given member.
      */
-    public void removeAttendanceForMember(Name memberName) {
-        attendances.removeAttendancesByMember(memberName);
+    public void removeAttendanceForMember(MemberId memberId) {
+        attendances.removeAttendancesByMember(memberId);
     }
 
     /**
@@ -314,6 +535,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         return attendances.asUnmodifiableObservableList();
     }
 
+    @Override
+    public List<Attendance> getLoadedAttendanceList() {
+        return attendances.getLoadedAttendances();
+    }
+
+    @Override
+    public List<SerializedEventAttendance> getUnloadedAttendanceList() {
+        return attendances.getUnloadedAttendances();
+    }
+
     @Override
     public ObservableList<Task> getTaskList() {
         return tasks.asUnmodifiableObservableList();
@@ -325,11 +556,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     public void setBudget(Budget budget) {
-        this.budget = budget;
+        updateBudget(budget);
     }
 
     public void clearBudget() {
-        this.budget = null;
+        updateBudget(null);
     }
 
     @Override
@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.budget.Budget;
+
+/**
+ * Identifies the contents of an {@code AddressBook} at some point in time.
+ * Two equal versions taken from the same address book mean that nothing in it has changed in between, which lets
+ * callers such as storage skip work for unchanged data without comparing the data itself.
+ * Guarantees: immutable.
+ */
+public class AddressBookVersion {
+    private final long personListVersion;
+    private final long eventListVersion;
+    private final long attendanceListVersion;
+    private final long taskListVersion;
+    private final Budget budget; // nullable
+
+    /**
+     * Creates a version from the versions of each list and the current budget, which is itself immutable.
+     */
+    AddressBookVersion(long personListVersion, long eventListVersion, long attendanceListVersion,
+            long taskListVersion, Budget budget) {
+        this.personListVersion = personListVersion;
+        this.eventListVersion = eventListVersion;
+        this.attendanceListVersion = attendanceListVersion;
+        this.taskListVersion = taskListVersion;
+        this.budget = budget;
+    }
+
+    public long getPersonListVersion() {
+        return personListVersion;
+    }
+
+    public long getEventListVersion() {
+        return eventListVersion;
+    }
+
+    public long getAttendanceListVersion() {
+        return attendanceListVersion;
+    }
+
+    public long getTaskListVersion() {
+        return taskListVersion;
+    }
+
+    public Optional<Budget> getBudget() {
+        return Optional.ofNullable(budget);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookVersion)) {
+            return false;
+        }
+
+        AddressBookVersion otherVersion = (AddressBookVersion) other;
+        return personListVersion == otherVersion.personListVersion
+                && eventListVersion == otherVersion.eventListVersion
+                && attendanceListVersion == otherVersion.attendanceListVersion
+                && taskListVersion == otherVersion.taskListVersion
+                && Objects.equals(budget, otherVersion.budget);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(personListVersion, eventListVersion, attendanceListVersion, taskListVersion, budget);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("personListVersion", personListVersion)
+                .add("eventListVersion", eventListVersion)
+                .add("attendanceListVersion", attendanceListVersion)
+                .add("taskListVersion", taskListVersion)
+                .add("budget", budget)
+                .toString();
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The changes made to an {@link AddressBook} by a single command.
+ * Reverting or re-applying a change set costs time proportional to the number of changes it holds, rather than
+ * to the size of the address book.
+ */
+class ChangeSet {
+
+    private final List<ReversibleEdit> edits = new ArrayList<>();
+    private long retainedElementCount;
+
+    /**
+     * Appends {@code edit} to this change set.
+     */
+    void add(ReversibleEdit edit) {
+        requireNonNull(edit);
+        edits.add(edit);
+        retainedElementCount += edit.getRetainedElementCount();
+    }
+
+    /**
+     * Reverts every change in this set, most recent first.
+     */
+    void revert() {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).revert();
+        }
+    }
+
+    /**
+     * Re-applies every change in this set, in the order they were originally made.
+     */
+    void apply() {
+        for (ReversibleEdit edit : edits) {
+            edit.apply();
+        }
+    }
+
+    /**
+     * Returns the number of changes in this set.
+     */
+    int size() {
+        return edits.size();
+    }
+
+    /**
+     * Returns a rough estimate of the memory, in bytes, held by this change set.
+     */
+    long getEstimatedBytes() {
+        return retainedElementCount * UniqueList.ESTIMATED_BYTES_PER_ELEMENT;
+    }
+}
@@ -0,0 +1,14 @@
+package seedu.address.model;
+
+/**
+ * How the address book data file is compressed on disk.
+ * Compressed data files are always recognised when read, whatever this is set to.
+ */
+public enum CompressionMode {
+    /** The data file is not compressed. */
+    NONE,
+    /** The data file is compressed in the gzip format, which can also be opened by common archive tools. */
+    GZIP,
+    /** The data file is compressed in the zlib (deflate) format, which has less overhead than gzip. */
+    DEFLATE
+}
@@ -0,0 +1,81 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A change to the contents of a {@link UniqueList}, which replaced the {@code removedCount} elements from
+ * {@code index} with the inserted elements.
+ * Each change is linked to the change made to the list before it, so that the changes made since any earlier change
+ * can be listed in time proportional to their number, such as to append them to a journal of the list.
+ * Changes are immutable and shared by every copy of the list, like its version.
+ * Only the latest {@value #MAX_LINKED_CHANGES} changes are linked, so that older ones, and the elements they hold,
+ * are not kept for ever.
+ *
+ * @param <T> The type of elements in the list
+ */
+public final class ListChange<T> {
+
+    static final int MAX_LINKED_CHANGES = 1000;
+
+    private final ListChange<T> previous; // null if the changes made before are not known
+    private final int linkedCount; // number of changes linked before this one
+    private final int index;
+    private final int removedCount;
+    private final List<T> insertedElements;
+
+    private ListChange(ListChange<T> previous, int index, int removedCount, List<T> insertedElements) {
+        this.previous = previous;
+        this.linkedCount = previous == null ? 0 : previous.linkedCount + 1;
+        this.index = index;
+        this.removedCount = removedCount;
+        this.insertedElements = insertedElements;
+    }
+
+    /**
+     * Returns a change that marks the start of what is known about the changes of a list, such as when the list is
+     * created, or when it is changed in a way that cannot be described by a {@code ListChange}.
+     */
+    static <T> ListChange<T> start() {
+        return new ListChange<>(null, 0, 0, List.of());
+    }
+
+    /**
+     * Returns the change that replaces the {@code removedCount} elements from {@code index} with
+     * {@code insertedElements}, made after this change.
+     */
+    ListChange<T> followedBy(int index, int removedCount, List<T> insertedElements) {
+        return new ListChange<>(linkedCount < MAX_LINKED_CHANGES ? this : null, index, removedCount,
+                List.copyOf(insertedElements));
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    public List<T> getInsertedElements() {
+        return insertedElements;
+    }
+
+    /**
+     * Returns the changes made after {@code earlier}, up to and including this change, in the order they were made.
+     * Returns an empty {@code Optional} if they are not known, as {@code earlier} is not linked to this change.
+     */
+    public Optional<List<ListChange<T>>> getChangesSince(ListChange<T> earlier) {
+        List<ListChange<T>> changes = new ArrayList<>();
+        for (ListChange<T> change = this; change != earlier; change = change.previous) {
+            if (change.previous == null) {
+                return Optional.empty();
+            }
+            changes.add(change);
+        }
+        Collections.reverse(changes);
+        return Optional.of(changes);
+    }
+}
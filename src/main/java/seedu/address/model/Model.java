@@ -2,7 +2,9 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -13,6 +15,7 @@ import seedu.address.model.budget.Budget;
 import seedu.address.model.common.Money;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentNumber;
@@ -65,6 +68,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the current contents of the AddressBook.
+     * The version changes whenever the contents do, so it can be used to tell whether there is anything to save.
+     */
+    AddressBookVersion getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -89,6 +98,22 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the person with the specified member ID, or null if not found.
+     */
+    Person getPersonByMemberId(MemberId memberId);
+
+    /**
+     * Returns the person with the specified student number, compared case-insensitively, or null if not found.
+     */
+    Person getPersonByStudentNumber(StudentNumber studentNumber);
+
+    /**
+     * Returns the persons with each of {@code names}, in the order of {@code names}, resolving every name in one pass.
+     * The persons that share a name are in the order they were added. Names that no person has are left out.
+     */
+    Map<Name, List<Person>> getPersonsByName(Collection<Name> names);
+
     /**
      * Returns true if an event with the same identity as {@code event} exists in the address book.
      */
@@ -163,6 +188,28 @@ public interface Model {
      */
     boolean hasAttendance(Attendance attendance);
 
+    /**
+     * Returns the attendance records of the event {@code eventId}.
+     */
+    List<Attendance> getAttendancesOfEvent(EventId eventId);
+
+    /**
+     * Returns the members that have an attendance record of the event {@code eventId}.
+     */
+    List<MemberId> getMembersOfEvent(EventId eventId);
+
+    /**
+     * Returns the members that are marked as attended at the event {@code eventId}.
+     */
+    List<MemberId> getAttendeesOfEvent(EventId eventId);
+
+    /**
+     * Marks the attendance records of the members {@code memberIds} at the event {@code eventId} as attended, or as
+     * absent if {@code hasAttended} is false.
+     * The event must have an attendance record of every one of the members.
+     */
+    void setAttendanceOfMembers(EventId eventId, Collection<MemberId> memberIds, boolean hasAttended);
+
     /**
      * Adds the given attendance record.
      * {@code attendance} must not already exist in the address book.
@@ -181,14 +228,14 @@ public interface Model {
     void removeAttendance(Attendance attendance);
 
     /**
-     * Removes all attendance records associated with the specified member name.
+     * Removes all attendance records associated with the specified member.
      */
-    void removeAttendanceForMember(Name memberName);
+    void removeAttendanceForMember(MemberId memberId);
 
     /**
-     * Renames attendance records from {@code oldName} to {@code newName}.
+     * Moves the attendance records of the member {@code oldId} to the member {@code newId}.
      */
-    void renameAttendanceForMember(Name oldName, Name newName);
+    void reassignAttendanceForMember(MemberId oldId, MemberId newId);
 
     /**
      * Returns an unmodifiable view of the filtered event list
@@ -251,7 +298,18 @@ public interface Model {
     boolean canRedo();
 
     /**
-     * Removes the last committed state from the history.
+     * Returns the current size and limits of the undo history.
+     */
+    UndoHistoryStatistics getUndoHistoryStatistics();
+
+    /**
+     * Evicts the oldest states of the undo history if it exceeds its limits.
+     * This is used when a command finishes after commit, as the changes it made count towards the history.
+     */
+    void enforceUndoHistoryLimits();
+
+    /**
+     * Reverts the changes made since the last commit and removes that commit from the history.
      * This is used when a command fails after commit.
      */
     void rollbackLastCommit();
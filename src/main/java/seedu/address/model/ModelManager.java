@@ -5,8 +5,10 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -20,6 +22,7 @@ import seedu.address.model.budget.Budget;
 import seedu.address.model.common.Money;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentNumber;
@@ -44,9 +47,11 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        // printing the address book loads all of its attendance, so only do so if it is logged
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new VersionedAddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoMode());
+        this.addressBook.setHistoryLimits(userPrefs.getUndoHistoryMaxDepth(), userPrefs.getUndoHistoryMaxBytes());
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredEvents = new FilteredList<>(this.addressBook.getEventList());
@@ -64,6 +69,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setHistoryLimits(userPrefs.getUndoHistoryMaxDepth(), userPrefs.getUndoHistoryMaxBytes());
     }
 
     @Override
@@ -106,6 +112,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookVersion getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -121,9 +132,8 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         logger.info("Deleting person: " + target.getName());
-        Name memberName = target.getName();
         addressBook.removePerson(target);
-        addressBook.removeAttendanceForMember(memberName);
+        addressBook.removeAttendanceForMember(target.getMemberId());
         logger.fine("Person deleted successfully. Total persons: " + addressBook.getPersonList().size());
     }
 
@@ -138,16 +148,42 @@ public class ModelManager implements Model {
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        Name oldName = target.getName();
-        Name newName = editedPerson.getName();
-        logger.info("Editing person: " + oldName + " -> " + newName);
+        logger.info("Editing person: " + target.getName() + " -> " + editedPerson.getName());
         addressBook.setPerson(target, editedPerson);
-        if (!oldName.equals(newName)) {
-            addressBook.renameAttendanceForMember(oldName, newName);
+        // attendance refers to members by ID, so renaming a member leaves their records as they are
+        MemberId oldId = target.getMemberId();
+        MemberId newId = editedPerson.getMemberId();
+        if (!oldId.equals(newId)) {
+            addressBook.reassignAttendanceForMember(oldId, newId);
         }
         logger.fine("Person edited successfully");
     }
 
+    @Override
+    public Person getPersonByMemberId(MemberId memberId) {
+        requireNonNull(memberId);
+        return addressBook.getPersonByMemberId(memberId);
+    }
+
+    @Override
+    public Person getPersonByStudentNumber(StudentNumber studentNumber) {
+        requireNonNull(studentNumber);
+        return addressBook.getPersonByStudentNumber(studentNumber);
+    }
+
+    @Override
+    public Map<Name, List<Person>> getPersonsByName(Collection<Name> names) {
+        requireAllNonNull(names);
+        Map<Name, List<Person>> personsByName = new LinkedHashMap<>();
+        for (Name name : names) {
+            List<Person> persons = addressBook.getPersonsByName(name);
+            if (!persons.isEmpty()) {
+                personsByName.put(name, persons);
+            }
+        }
+        return personsByName;
+    }
+
     @Override
     public boolean hasEvent(Event event) {
         requireNonNull(event);
@@ -210,6 +246,30 @@ public class ModelManager implements Model {
         return addressBook.hasAttendance(attendance);
     }
 
+    @Override
+    public List<Attendance> getAttendancesOfEvent(EventId eventId) {
+        requireNonNull(eventId);
+        return addressBook.getAttendancesOfEvent(eventId);
+    }
+
+    @Override
+    public List<MemberId> getMembersOfEvent(EventId eventId) {
+        requireNonNull(eventId);
+        return addressBook.getMembersOfEvent(eventId);
+    }
+
+    @Override
+    public List<MemberId> getAttendeesOfEvent(EventId eventId) {
+        requireNonNull(eventId);
+        return addressBook.getAttendeesOfEvent(eventId);
+    }
+
+    @Override
+    public void setAttendanceOfMembers(EventId eventId, Collection<MemberId> memberIds, boolean hasAttended) {
+        requireAllNonNull(eventId, memberIds);
+        addressBook.setAttendanceOfMembers(eventId, memberIds, hasAttended);
+    }
+
     @Override
     public void addAttendance(Attendance attendance) {
         addressBook.addAttendance(attendance);
@@ -225,20 +285,20 @@ public class ModelManager implements Model {
     public void removeAttendance(Attendance attendance) {
         requireNonNull(attendance);
         logger.fine(() -> String.format("Removing attendance: %s for event %s",
-                attendance.getMemberName(), attendance.getEventId()));
+                attendance.getMemberId(), attendance.getEventId()));
         addressBook.removeAttendance(attendance);
     }
 
     @Override
-    public void removeAttendanceForMember(Name memberName) {
-        requireNonNull(memberName);
-        addressBook.removeAttendanceForMember(memberName);
+    public void removeAttendanceForMember(MemberId memberId) {
+        requireNonNull(memberId);
+        addressBook.removeAttendanceForMember(memberId);
     }
 
     @Override
-    public void renameAttendanceForMember(Name oldName, Name newName) {
-        requireAllNonNull(oldName, newName);
-        addressBook.renameAttendanceForMember(oldName, newName);
+    public void reassignAttendanceForMember(MemberId oldId, MemberId newId) {
+        requireAllNonNull(oldId, newId);
+        addressBook.reassignAttendanceForMember(oldId, newId);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -349,10 +409,21 @@ public class ModelManager implements Model {
         return addressBook.canRedo();
     }
 
+    @Override
+    public UndoHistoryStatistics getUndoHistoryStatistics() {
+        return addressBook.getHistoryStatistics();
+    }
+
+    @Override
+    public void enforceUndoHistoryLimits() {
+        addressBook.enforceHistoryLimits();
+    }
+
     @Override
     public void rollbackLastCommit() {
         logger.info("Rolling back last commit due to command failure");
         addressBook.rollbackLastCommit();
+        this.budget = addressBook.getBudget().orElse(null);
         logger.fine("Rollback completed. Undo history size: " + addressBook.getUndoCount());
     }
 
@@ -378,26 +449,14 @@ public class ModelManager implements Model {
 
     @Override
     public Money computeTotalExpensesWithin(LocalDate start, LocalDate end) {
-        Money total = Money.zero();
-        for (Event e : addressBook.getEventList()) {
-            LocalDate d = e.getDate();
-            if ((d.isEqual(start) || d.isAfter(start)) && (d.isEqual(end) || d.isBefore(end))) {
-                total = total.plus(e.getExpense());
-            }
-        }
-        return total;
+        requireAllNonNull(start, end);
+        return addressBook.getTotalExpenseWithin(start, end);
     }
 
     @Override
     public List<Event> getEventsWithin(LocalDate start, LocalDate end) {
-        List<Event> result = new ArrayList<>();
-        for (Event e : addressBook.getEventList()) {
-            LocalDate d = e.getDate();
-            if ((d.isEqual(start) || d.isAfter(start)) && (d.isEqual(end) || d.isBefore(end))) {
-                result.add(e);
-            }
-        }
-        return result;
+        requireAllNonNull(start, end);
+        return addressBook.getEventsWithin(start, end);
     }
 
     @Override
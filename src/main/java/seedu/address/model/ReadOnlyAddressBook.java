@@ -1,9 +1,11 @@
 package seedu.address.model;
 
+import java.util.List;
 import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.SerializedEventAttendance;
 import seedu.address.model.budget.Budget;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
@@ -32,6 +34,21 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Attendance> getAttendanceList();
 
+    /**
+     * Returns the attendance records that have been loaded, without loading the rest.
+     * Together with {@link #getUnloadedAttendanceList()}, these are the records of {@link #getAttendanceList()}.
+     */
+    default List<Attendance> getLoadedAttendanceList() {
+        return getAttendanceList();
+    }
+
+    /**
+     * Returns the attendance records that have not been loaded yet, grouped by event.
+     */
+    default List<SerializedEventAttendance> getUnloadedAttendanceList() {
+        return List.of();
+    }
+
     /**
      * Returns an unmodifiable view of the tasks list.
      * This list will not contain any duplicate tasks.
@@ -13,4 +13,20 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    StorageMode getStorageMode();
+
+    boolean isCompactDataFile();
+
+    boolean isLazyAttendanceLoading();
+
+    CompressionMode getCompressionMode();
+
+    int getCompressionLevel();
+
+    UndoMode getUndoMode();
+
+    int getUndoHistoryMaxDepth();
+
+    long getUndoHistoryMaxBytes();
+
 }
@@ -0,0 +1,52 @@
+package seedu.address.model;
+
+/**
+ * A single change to the address book data that can be reverted and re-applied.
+ */
+interface ReversibleEdit {
+
+    /**
+     * Undoes this change.
+     */
+    void revert();
+
+    /**
+     * Re-does this change after it has been reverted.
+     */
+    void apply();
+
+    /**
+     * Returns the number of list elements this edit holds on to, used to estimate its memory footprint.
+     */
+    int getRetainedElementCount();
+
+    /**
+     * Returns a {@code ReversibleEdit} that runs {@code revert} and {@code apply} respectively.
+     */
+    static ReversibleEdit of(Runnable revert, Runnable apply) {
+        return of(revert, apply, 1);
+    }
+
+    /**
+     * Returns a {@code ReversibleEdit} that runs {@code revert} and {@code apply} respectively and holds on to
+     * {@code retainedElementCount} list elements.
+     */
+    static ReversibleEdit of(Runnable revert, Runnable apply, int retainedElementCount) {
+        return new ReversibleEdit() {
+            @Override
+            public void revert() {
+                revert.run();
+            }
+
+            @Override
+            public void apply() {
+                apply.run();
+            }
+
+            @Override
+            public int getRetainedElementCount() {
+                return retainedElementCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.model;
+
+/**
+ * How the address book data file is written to disk.
+ */
+public enum StorageMode {
+    /** Every change rewrites the whole JSON data file. */
+    JSON,
+    /**
+     * Changes are appended to a journal next to the JSON data file, which is only rewritten once the journal grows
+     * long enough or when the app exits.
+     */
+    JOURNALED,
+    /** Every change rewrites the whole data file as a binary snapshot, which is smaller and faster to read. */
+    BINARY,
+    /**
+     * Each collection is kept in a JSON file of its own, in a directory next to the data file, and only the files of
+     * changed collections are rewritten.
+     */
+    SHARDED
+}
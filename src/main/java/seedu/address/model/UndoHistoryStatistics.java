@@ -0,0 +1,84 @@
+package seedu.address.model;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Describes the current size of the undo history and the limits it is held to.
+ * Guarantees: immutable.
+ */
+public class UndoHistoryStatistics {
+    private final int undoCount;
+    private final int redoCount;
+    private final long estimatedBytes;
+    private final int maxDepth;
+    private final long maxBytes;
+
+    /**
+     * Creates statistics for a history holding {@code undoCount} undoable and {@code redoCount} redoable states,
+     * estimated at {@code estimatedBytes}, and limited to {@code maxDepth} states and {@code maxBytes}.
+     */
+    public UndoHistoryStatistics(int undoCount, int redoCount, long estimatedBytes, int maxDepth, long maxBytes) {
+        this.undoCount = undoCount;
+        this.redoCount = redoCount;
+        this.estimatedBytes = estimatedBytes;
+        this.maxDepth = maxDepth;
+        this.maxBytes = maxBytes;
+    }
+
+    public int getUndoCount() {
+        return undoCount;
+    }
+
+    public int getRedoCount() {
+        return redoCount;
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UndoHistoryStatistics)) {
+            return false;
+        }
+
+        UndoHistoryStatistics otherStatistics = (UndoHistoryStatistics) other;
+        return undoCount == otherStatistics.undoCount
+                && redoCount == otherStatistics.redoCount
+                && estimatedBytes == otherStatistics.estimatedBytes
+                && maxDepth == otherStatistics.maxDepth
+                && maxBytes == otherStatistics.maxBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(undoCount, redoCount, estimatedBytes, maxDepth, maxBytes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("undoCount", undoCount)
+                .add("redoCount", redoCount)
+                .add("estimatedBytes", estimatedBytes)
+                .add("maxDepth", maxDepth)
+                .add("maxBytes", maxBytes)
+                .toString();
+    }
+}
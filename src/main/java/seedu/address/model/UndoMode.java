@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * How {@link VersionedAddressBook} records the history used by undo and redo.
+ */
+public enum UndoMode {
+    /** Each undoable command stores a copy of the address book, sharing lists that did not change. */
+    SNAPSHOT,
+    /** Each undoable command stores only the changes it made, which are reverted or re-applied on demand. */
+    DELTA
+}
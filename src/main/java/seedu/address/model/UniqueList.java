@@ -3,8 +3,17 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -12,21 +21,41 @@ import javafx.collections.ObservableList;
 /**
  * A generic list that enforces uniqueness between its elements and does not allow nulls.
  * Elements are considered unique by comparing using a custom equality method provided by subclasses.
+ * An index keyed on {@link #getIdentityKey(Object)} is kept alongside the backing list so that identity
+ * lookups do not need to scan every element. Subclasses can keep further indexes in sync with the list through the
+ * {@code onElement...} hooks, which are called on every change to the identity index.
+ * Every change to the contents assigns the list a new version, so two lists with the same version are known
+ * to hold the same elements without comparing them. Every change is also described by a {@link ListChange}, so
+ * that the changes since an earlier one can be replayed on a copy of the list elsewhere.
+ * While an edit listener is attached, every change is also reported to it as a {@link ReversibleEdit}.
  *
  * @param <T> The type of elements in the list
  */
 public abstract class UniqueList<T> implements Iterable<T> {
 
+    /**
+     * Rough memory cost of keeping one element in a copy of a list: the list slot, the identity index entry and
+     * its key. Elements themselves are immutable and shared between copies, so they are not counted.
+     */
+    static final int ESTIMATED_BYTES_PER_ELEMENT = 64;
+
+    private static final AtomicLong versionCounter = new AtomicLong();
+
     protected final ObservableList<T> internalList = FXCollections.observableArrayList();
     private final ObservableList<T> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Object, T> identityIndex = new HashMap<>();
+    private final Map<Object, T> unmodifiableIdentityIndex = Collections.unmodifiableMap(identityIndex);
+    private long version = versionCounter.incrementAndGet();
+    private ListChange<T> lastChange = ListChange.start();
+    private Consumer<ReversibleEdit> editListener; // nullable
 
     /**
      * Returns true if the list contains an equivalent element as the given argument.
      */
     public boolean contains(T toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(item -> isSameElement(item, toCheck));
+        return identityIndex.containsKey(getIdentityKey(toCheck));
     }
 
     /**
@@ -38,27 +67,42 @@ public abstract class UniqueList<T> implements Iterable<T> {
         if (contains(toAdd)) {
             throw createDuplicateException();
         }
+        int index = internalList.size();
         internalList.add(toAdd);
+        indexElement(toAdd);
+        markModified(index, 0, List.of(toAdd));
+        recordEdit(() -> removeByIdentity(toAdd), () -> insertIfAbsent(index, toAdd));
     }
 
     /**
      * Replaces the element {@code target} in the list with {@code editedElement}.
      * {@code target} must exist in the list.
      * The element identity of {@code editedElement} must not be the same as another existing element in the list.
+     * <p>
+     * Like {@link #remove}, this takes O(n), as the position of {@code target} is found by scanning the backing
+     * list. The identity index does not keep positions because every removal or insertion shifts the positions of
+     * all later elements, so keeping them would make those operations update O(n) index entries rather than only
+     * move O(n) references. The scan compares references rather than calling {@code equals}, so each step is cheap.
      */
     public void setElement(T target, T editedElement) {
         requireAllNonNull(target, editedElement);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Object targetKey = getIdentityKey(target);
+        T existing = identityIndex.get(targetKey);
+        if (!target.equals(existing)) {
             throw createNotFoundException();
         }
 
-        if (!isSameElement(target, editedElement) && contains(editedElement)) {
+        Object editedKey = getIdentityKey(editedElement);
+        if (!targetKey.equals(editedKey) && identityIndex.containsKey(editedKey)) {
             throw createDuplicateException();
         }
 
+        int index = indexOfInstance(existing);
         internalList.set(index, editedElement);
+        reindexElement(existing, editedElement);
+        markModified(index, 1, List.of(editedElement));
+        recordEdit(() -> replaceByIdentity(editedElement, target), () -> replaceByIdentity(target, editedElement));
     }
 
     /**
@@ -67,9 +111,100 @@ public abstract class UniqueList<T> implements Iterable<T> {
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw createNotFoundException();
         }
+        internalList.remove(index);
+        unindexElement(toRemove);
+        markModified(index, 1, List.of());
+        recordEdit(() -> insertIfAbsent(index, toRemove), () -> removeByIdentity(toRemove));
+    }
+
+    /**
+     * Removes all elements that satisfy {@code filter}, keeping the identity index in sync.
+     */
+    protected void removeElementsIf(Predicate<T> filter) {
+        requireNonNull(filter);
+        List<Integer> removedIndexes = new ArrayList<>();
+        List<T> removedElements = new ArrayList<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            T element = internalList.get(i);
+            if (filter.test(element)) {
+                removedIndexes.add(i);
+                removedElements.add(element);
+            }
+        }
+        if (removedElements.isEmpty()) {
+            return;
+        }
+
+        internalList.removeIf(filter);
+        removedElements.forEach(this::unindexElement);
+        // each run of adjacent removed elements is one change, at its position once the runs before are removed
+        int runStart = 0;
+        for (int i = 1; i <= removedIndexes.size(); i++) {
+            if (i == removedIndexes.size() || removedIndexes.get(i) != removedIndexes.get(i - 1) + 1) {
+                markModified(removedIndexes.get(runStart) - runStart, i - runStart, List.of());
+                runStart = i;
+            }
+        }
+        recordEdit(() -> {
+            // ascending order puts every element back at its original position
+            for (int i = 0; i < removedElements.size(); i++) {
+                insertIfAbsent(removedIndexes.get(i), removedElements.get(i));
+            }
+        }, () -> removedElements.forEach(this::removeByIdentity), removedElements.size());
+    }
+
+    /**
+     * Replaces each element in the list that is a key of {@code replacements} with the value it maps to, in place
+     * and in a single pass over the list.
+     * Every key must exist in the list, and the list must stay free of duplicates once every replacement is made.
+     */
+    protected void replaceElements(Map<T, T> replacements) {
+        requireNonNull(replacements);
+        Set<Object> replacedKeys = new HashSet<>();
+        for (T target : replacements.keySet()) {
+            Object key = getIdentityKey(target);
+            if (!target.equals(identityIndex.get(key))) {
+                throw createNotFoundException();
+            }
+            replacedKeys.add(key);
+        }
+        Set<Object> replacementKeys = new HashSet<>();
+        for (T replacement : replacements.values()) {
+            Object key = getIdentityKey(replacement);
+            if (!replacementKeys.add(key) || (identityIndex.containsKey(key) && !replacedKeys.contains(key))) {
+                throw createDuplicateException();
+            }
+        }
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        List<Integer> replacedIndexes = new ArrayList<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            T replacement = replacements.get(internalList.get(i));
+            if (replacement != null) {
+                internalList.set(i, replacement);
+                replacedIndexes.add(i);
+            }
+        }
+        replacements.keySet().forEach(this::unindexElement);
+        replacements.values().forEach(this::indexElement);
+        // each run of adjacent replaced elements is one change
+        int runStart = 0;
+        for (int i = 1; i <= replacedIndexes.size(); i++) {
+            if (i == replacedIndexes.size() || replacedIndexes.get(i) != replacedIndexes.get(i - 1) + 1) {
+                int index = replacedIndexes.get(runStart);
+                markModified(index, i - runStart, internalList.subList(index, index + i - runStart));
+                runStart = i;
+            }
+        }
+        Map<T, T> recordedReplacements = new HashMap<>(replacements);
+        recordEdit(() -> recordedReplacements.forEach((target, replacement) -> replaceByIdentity(replacement, target)),
+                () -> recordedReplacements.forEach(this::replaceByIdentity), 2 * recordedReplacements.size());
     }
 
     /**
@@ -78,10 +213,49 @@ public abstract class UniqueList<T> implements Iterable<T> {
      */
     public void setElements(List<T> elements) {
         requireAllNonNull(elements);
-        if (!elementsAreUnique(elements)) {
-            throw createDuplicateException();
-        }
+        Map<Object, T> newIndex = indexByIdentity(elements);
+        List<T> oldElements = editListener == null ? null : new ArrayList<>(internalList);
+        int oldSize = internalList.size();
         internalList.setAll(elements);
+        replaceIdentityIndex(newIndex);
+        markModified(0, oldSize, elements);
+        if (editListener != null) {
+            List<T> newElements = new ArrayList<>(elements);
+            recordEdit(() -> restoreElements(oldElements), () -> restoreElements(newElements),
+                    oldElements.size() + newElements.size());
+        }
+    }
+
+    /**
+     * Adds {@code elements}, which are already part of the contents of this list but had not been loaded yet.
+     * As the contents stay the same, the version is kept and no edit is reported. The elements loaded may not have
+     * been at the end of the list in the copies made before, so the changes made before are no longer linked to
+     * the ones made after.
+     * {@code elements} must not have the same identity as each other or as any element in the list.
+     */
+    protected void addLoadedElements(List<T> elements) {
+        for (T element : elements) {
+            assert !identityIndex.containsKey(getIdentityKey(element));
+            internalList.add(element);
+            indexElement(element);
+        }
+        lastChange = ListChange.start();
+    }
+
+    /**
+     * Returns the element whose identity key is {@code key}, or null if the list has no such element.
+     */
+    protected T getByIdentityKey(Object key) {
+        requireNonNull(key);
+        return identityIndex.get(key);
+    }
+
+    /**
+     * Returns an unmodifiable view of the identity index, mapping the identity key of every element to the element.
+     * The view stays in sync with the list as it changes.
+     */
+    protected Map<Object, T> asUnmodifiableIdentityIndex() {
+        return unmodifiableIdentityIndex;
     }
 
     /**
@@ -93,12 +267,198 @@ public abstract class UniqueList<T> implements Iterable<T> {
 
     /**
      * Sets all elements from another UniqueList of the same type.
+     * {@code other} already guarantees uniqueness, so its elements are not validated again.
      * This method is protected to allow subclasses to implement their own set methods.
      */
     protected void setAllFromOther(UniqueList<T> other) {
+        List<T> oldElements = editListener == null ? null : new ArrayList<>(internalList);
         internalList.setAll(other.internalList);
+        replaceIdentityIndex(other.identityIndex);
+        version = other.version;
+        lastChange = other.lastChange;
+        if (editListener != null) {
+            List<T> newElements = new ArrayList<>(other.internalList);
+            recordEdit(() -> restoreElements(oldElements), () -> restoreElements(newElements),
+                    oldElements.size() + newElements.size());
+        }
+    }
+
+    /**
+     * Reports every subsequent change to {@code listener} as a {@link ReversibleEdit}.
+     * Pass null to stop reporting changes.
+     */
+    protected void setEditListener(Consumer<ReversibleEdit> listener) {
+        editListener = listener;
+    }
+
+    /**
+     * Returns true if changes are being reported to an edit listener.
+     */
+    protected boolean isRecordingEdits() {
+        return editListener != null;
+    }
+
+    /**
+     * Returns a rough estimate of the memory, in bytes, needed to keep a copy of this list.
+     */
+    public long getEstimatedBytes() {
+        return (long) internalList.size() * ESTIMATED_BYTES_PER_ELEMENT;
+    }
+
+    /**
+     * Returns the version of the current contents of this list.
+     * Lists with equal versions are guaranteed to contain the same elements in the same order.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the latest change made to this list, which the changes made after it can be listed from.
+     */
+    public ListChange<T> getLastChange() {
+        return lastChange;
+    }
+
+    /**
+     * Assigns the list a new version, after its contents have been changed in a way that is not described by a
+     * {@link ListChange}, so the changes made before are no longer linked to the ones made after.
+     */
+    protected void markModified() {
+        version = versionCounter.incrementAndGet();
+        lastChange = ListChange.start();
+    }
+
+    /**
+     * Assigns the list a new version, after the {@code removedCount} elements from {@code index} have been replaced
+     * by {@code insertedElements}.
+     */
+    private void markModified(int index, int removedCount, List<T> insertedElements) {
+        version = versionCounter.incrementAndGet();
+        lastChange = lastChange.followedBy(index, removedCount, insertedElements);
+    }
+
+    private void recordEdit(Runnable revert, Runnable apply) {
+        recordEdit(revert, apply, 1);
+    }
+
+    private void recordEdit(Runnable revert, Runnable apply, int retainedElementCount) {
+        if (editListener != null) {
+            editListener.accept(ReversibleEdit.of(revert, apply, retainedElementCount));
+        }
+    }
+
+    // The helpers below replay recorded edits. They locate elements by identity rather than by position, and
+    // skip changes that would break uniqueness, so that replaying stays safe even if the list has since been
+    // changed without recording.
+
+    private void insertIfAbsent(int index, T element) {
+        Object key = getIdentityKey(element);
+        if (identityIndex.containsKey(key)) {
+            return;
+        }
+        int insertedIndex = Math.min(index, internalList.size());
+        internalList.add(insertedIndex, element);
+        indexElement(element);
+        markModified(insertedIndex, 0, List.of(element));
+    }
+
+    private void removeByIdentity(T element) {
+        T existing = identityIndex.get(getIdentityKey(element));
+        if (existing == null) {
+            return;
+        }
+        int index = indexOfInstance(existing);
+        internalList.remove(index);
+        unindexElement(existing);
+        markModified(index, 1, List.of());
+    }
+
+    private void replaceByIdentity(T current, T replacement) {
+        Object currentKey = getIdentityKey(current);
+        Object replacementKey = getIdentityKey(replacement);
+        T existing = identityIndex.get(currentKey);
+        if (existing == null) {
+            insertIfAbsent(internalList.size(), replacement);
+            return;
+        }
+        if (!currentKey.equals(replacementKey) && identityIndex.containsKey(replacementKey)) {
+            return;
+        }
+        int index = indexOfInstance(existing);
+        internalList.set(index, replacement);
+        reindexElement(existing, replacement);
+        markModified(index, 1, List.of(replacement));
     }
 
+    /**
+     * Returns the position of {@code element}, which must be the very instance kept in the list, in O(n).
+     */
+    private int indexOfInstance(T element) {
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.get(i) == element) {
+                return i;
+            }
+        }
+        throw new AssertionError("Indexed element is missing from the list");
+    }
+
+    private void restoreElements(List<T> elements) {
+        Map<Object, T> newIndex = indexByIdentity(elements);
+        int oldSize = internalList.size();
+        internalList.setAll(elements);
+        replaceIdentityIndex(newIndex);
+        markModified(0, oldSize, elements);
+    }
+
+    private void replaceIdentityIndex(Map<Object, T> newIndex) {
+        identityIndex.clear();
+        identityIndex.putAll(newIndex);
+        onElementsReindexed();
+    }
+
+    private void indexElement(T element) {
+        identityIndex.put(getIdentityKey(element), element);
+        onElementIndexed(element);
+    }
+
+    private void unindexElement(T element) {
+        identityIndex.remove(getIdentityKey(element));
+        onElementUnindexed(element);
+    }
+
+    private void reindexElement(T current, T replacement) {
+        identityIndex.remove(getIdentityKey(current));
+        identityIndex.put(getIdentityKey(replacement), replacement);
+        onElementReindexed(current, replacement);
+    }
+
+    // Hooks for subclasses that keep indexes of their own. They are called whenever the identity index changes,
+    // after the backing list has been updated.
+
+    /**
+     * Called after {@code element} has been added to the list.
+     */
+    protected void onElementIndexed(T element) {}
+
+    /**
+     * Called after {@code element} has been removed from the list.
+     */
+    protected void onElementUnindexed(T element) {}
+
+    /**
+     * Called after {@code current} has been replaced by {@code replacement} in place.
+     */
+    protected void onElementReindexed(T current, T replacement) {
+        onElementUnindexed(current);
+        onElementIndexed(replacement);
+    }
+
+    /**
+     * Called after the whole contents of the list have been replaced.
+     */
+    protected void onElementsReindexed() {}
+
     @Override
     public Iterator<T> iterator() {
         return internalList.iterator();
@@ -135,6 +495,12 @@ public abstract class UniqueList<T> implements Iterable<T> {
      */
     protected abstract boolean isSameElement(T element1, T element2);
 
+    /**
+     * Returns the key that identifies {@code element} for uniqueness purposes.
+     * Two elements must have equal keys if and only if {@link #isSameElement(Object, Object)} holds for them.
+     */
+    protected abstract Object getIdentityKey(T element);
+
     /**
      * Creates the appropriate duplicate exception for this list type.
      */
@@ -146,16 +512,16 @@ public abstract class UniqueList<T> implements Iterable<T> {
     protected abstract RuntimeException createNotFoundException();
 
     /**
-     * Returns true if {@code elements} contains only unique elements.
+     * Returns an identity index over {@code elements}.
+     * Throws the list's duplicate exception if two elements share the same identity key.
      */
-    private boolean elementsAreUnique(List<T> elements) {
-        for (int i = 0; i < elements.size() - 1; i++) {
-            for (int j = i + 1; j < elements.size(); j++) {
-                if (isSameElement(elements.get(i), elements.get(j))) {
-                    return false;
-                }
+    private Map<Object, T> indexByIdentity(List<T> elements) {
+        Map<Object, T> index = new HashMap<>();
+        for (T element : elements) {
+            if (index.putIfAbsent(getIdentityKey(element), element) != null) {
+                throw createDuplicateException();
             }
         }
-        return true;
+        return index;
     }
 }
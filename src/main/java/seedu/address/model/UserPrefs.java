@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,20 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_INVALID_HISTORY_LIMIT = "Undo history limits must be positive.";
+    public static final String MESSAGE_INVALID_COMPRESSION_LEVEL = "Compression level must be between 0 and 9.";
+    public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private StorageMode storageMode = StorageMode.JSON;
+    private boolean compactDataFile = false;
+    private boolean lazyAttendanceLoading = false;
+    private CompressionMode compressionMode = CompressionMode.NONE;
+    private int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+    private UndoMode undoMode = UndoMode.SNAPSHOT;
+    private int undoHistoryMaxDepth = VersionedAddressBook.DEFAULT_MAX_HISTORY_DEPTH;
+    private long undoHistoryMaxBytes = VersionedAddressBook.DEFAULT_MAX_HISTORY_BYTES;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +49,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setStorageMode(newUserPrefs.getStorageMode());
+        setCompactDataFile(newUserPrefs.isCompactDataFile());
+        setLazyAttendanceLoading(newUserPrefs.isLazyAttendanceLoading());
+        setCompressionMode(newUserPrefs.getCompressionMode());
+        setCompressionLevel(newUserPrefs.getCompressionLevel());
+        setUndoMode(newUserPrefs.getUndoMode());
+        setUndoHistoryMaxDepth(newUserPrefs.getUndoHistoryMaxDepth());
+        setUndoHistoryMaxBytes(newUserPrefs.getUndoHistoryMaxBytes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +77,76 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    public void setStorageMode(StorageMode storageMode) {
+        requireNonNull(storageMode);
+        this.storageMode = storageMode;
+    }
+
+    public boolean isCompactDataFile() {
+        return compactDataFile;
+    }
+
+    public void setCompactDataFile(boolean compactDataFile) {
+        this.compactDataFile = compactDataFile;
+    }
+
+    public boolean isLazyAttendanceLoading() {
+        return lazyAttendanceLoading;
+    }
+
+    public void setLazyAttendanceLoading(boolean lazyAttendanceLoading) {
+        this.lazyAttendanceLoading = lazyAttendanceLoading;
+    }
+
+    public CompressionMode getCompressionMode() {
+        return compressionMode;
+    }
+
+    public void setCompressionMode(CompressionMode compressionMode) {
+        requireNonNull(compressionMode);
+        this.compressionMode = compressionMode;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public void setCompressionLevel(int compressionLevel) {
+        checkArgument(compressionLevel >= 0 && compressionLevel <= 9, MESSAGE_INVALID_COMPRESSION_LEVEL);
+        this.compressionLevel = compressionLevel;
+    }
+
+    public UndoMode getUndoMode() {
+        return undoMode;
+    }
+
+    public void setUndoMode(UndoMode undoMode) {
+        requireNonNull(undoMode);
+        this.undoMode = undoMode;
+    }
+
+    public int getUndoHistoryMaxDepth() {
+        return undoHistoryMaxDepth;
+    }
+
+    public void setUndoHistoryMaxDepth(int undoHistoryMaxDepth) {
+        checkArgument(undoHistoryMaxDepth > 0, MESSAGE_INVALID_HISTORY_LIMIT);
+        this.undoHistoryMaxDepth = undoHistoryMaxDepth;
+    }
+
+    public long getUndoHistoryMaxBytes() {
+        return undoHistoryMaxBytes;
+    }
+
+    public void setUndoHistoryMaxBytes(long undoHistoryMaxBytes) {
+        checkArgument(undoHistoryMaxBytes > 0, MESSAGE_INVALID_HISTORY_LIMIT);
+        this.undoHistoryMaxBytes = undoHistoryMaxBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +160,21 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && storageMode == otherUserPrefs.storageMode
+                && compactDataFile == otherUserPrefs.compactDataFile
+                && lazyAttendanceLoading == otherUserPrefs.lazyAttendanceLoading
+                && compressionMode == otherUserPrefs.compressionMode
+                && compressionLevel == otherUserPrefs.compressionLevel
+                && undoMode == otherUserPrefs.undoMode
+                && undoHistoryMaxDepth == otherUserPrefs.undoHistoryMaxDepth
+                && undoHistoryMaxBytes == otherUserPrefs.undoHistoryMaxBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, storageMode, compactDataFile, lazyAttendanceLoading,
+                compressionMode, compressionLevel, undoMode, undoHistoryMaxDepth, undoHistoryMaxBytes);
     }
 
     @Override
@@ -82,6 +182,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nStorage mode : " + storageMode + (compactDataFile ? " (compact)" : ""));
+        sb.append("\nLazy attendance loading : " + lazyAttendanceLoading);
+        sb.append("\nCompression : " + compressionMode + " (level " + compressionLevel + ")");
+        sb.append("\nUndo mode : " + undoMode);
+        sb.append("\nUndo history limits : " + undoHistoryMaxDepth + " commands, " + undoHistoryMaxBytes + " bytes");
         return sb.toString();
     }
 
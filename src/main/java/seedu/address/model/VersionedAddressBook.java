@@ -1,32 +1,79 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.Stack;
 
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * A versioned address book that maintains a history of states for undo functionality.
+ * In {@link UndoMode#SNAPSHOT} mode, consecutive states share every list that did not change between them, so a
+ * command that only touches one kind of data (e.g. attendance) only copies that list into the history.
+ * In {@link UndoMode#DELTA} mode, only the changes made by each command are kept.
+ * The undo history is bounded both in depth and in estimated memory; the oldest states are evicted first.
  */
 public class VersionedAddressBook extends AddressBook {
-    private final Stack<ReadOnlyAddressBook> addressBookStateHistory;
-    private final Stack<ReadOnlyAddressBook> addressBookRedoHistory;
+    public static final int DEFAULT_MAX_HISTORY_DEPTH = 100;
+    public static final long DEFAULT_MAX_HISTORY_BYTES = 64L * 1024 * 1024;
+
+    private final UndoMode undoMode;
+    private int maxHistoryDepth = DEFAULT_MAX_HISTORY_DEPTH;
+    private long maxHistoryBytes = DEFAULT_MAX_HISTORY_BYTES;
+
+    // Used in SNAPSHOT mode
+    private final Stack<AddressBook> addressBookStateHistory;
+    private final Stack<AddressBook> addressBookRedoHistory;
+    private AddressBook latestSnapshot; // most recent snapshot to share unchanged lists with, nullable
+
+    // Used in DELTA mode
+    private final Stack<ChangeSet> undoChangeSets;
+    private final Stack<ChangeSet> redoChangeSets;
 
     /**
-     * Creates a VersionedAddressBook with the given initial state.
+     * Creates a VersionedAddressBook with the given initial state, keeping snapshots for undo.
      */
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, UndoMode.SNAPSHOT);
+    }
+
+    /**
+     * Creates a VersionedAddressBook with the given initial state and {@code undoMode}.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, UndoMode undoMode) {
         super(initialState);
+        requireNonNull(undoMode);
+        this.undoMode = undoMode;
         this.addressBookStateHistory = new Stack<>();
         this.addressBookRedoHistory = new Stack<>();
+        this.undoChangeSets = new Stack<>();
+        this.redoChangeSets = new Stack<>();
     }
 
     /**
      * Creates a VersionedAddressBook with an empty initial state.
      */
     public VersionedAddressBook() {
-        super();
-        this.addressBookStateHistory = new Stack<>();
-        this.addressBookRedoHistory = new Stack<>();
+        this(new AddressBook());
+    }
+
+    public UndoMode getUndoMode() {
+        return undoMode;
+    }
+
+    /**
+     * Limits the undo history to {@code maxDepth} states and roughly {@code maxBytes} of memory,
+     * evicting the oldest states if the current history exceeds either limit.
+     */
+    public void setHistoryLimits(int maxDepth, long maxBytes) {
+        checkArgument(maxDepth > 0 && maxBytes > 0, UserPrefs.MESSAGE_INVALID_HISTORY_LIMIT);
+        this.maxHistoryDepth = maxDepth;
+        this.maxHistoryBytes = maxBytes;
+        evictOldestStates();
     }
 
     /**
@@ -34,18 +81,92 @@ public class VersionedAddressBook extends AddressBook {
      * This should be called before making any modifications.
      */
     public void commit() {
-        addressBookStateHistory.push(new AddressBook(this));
+        if (undoMode == UndoMode.DELTA) {
+            ChangeSet changeSet = new ChangeSet();
+            undoChangeSets.push(changeSet);
+            redoChangeSets.clear();
+            // Changes are recorded into the new change set until the next commit, undo, redo or rollback
+            setEditListener(changeSet::add);
+            evictOldestStates();
+            return;
+        }
+
+        addressBookStateHistory.push(takeSnapshot());
         // Clear redo history when a new state is committed
         addressBookRedoHistory.clear();
+        evictOldestStates();
     }
 
     /**
-     * Removes the last committed state from the history.
-     * This is used when a command fails after commit.
+     * Evicts the oldest states if the history exceeds either of its limits.
+     * The changes of a command are only recorded as it runs, so this should be called again once a command that
+     * committed has finished, as the history may only exceed its memory limit then.
+     */
+    public void enforceHistoryLimits() {
+        evictOldestStates();
+    }
+
+    /**
+     * Drops the oldest undo states until the history fits within its depth and memory limits.
+     * The most recent state is always kept so that the last command can still be undone.
+     */
+    private void evictOldestStates() {
+        while (getUndoCount() > maxHistoryDepth
+                || (getUndoCount() > 1 && getEstimatedHistoryBytes() > maxHistoryBytes)) {
+            if (undoMode == UndoMode.DELTA) {
+                undoChangeSets.remove(0);
+            } else {
+                addressBookStateHistory.remove(0);
+            }
+        }
+    }
+
+    /**
+     * Returns a rough estimate of the memory, in bytes, held by the undo and redo history.
+     * Lists shared between snapshots are only counted once.
+     */
+    public long getEstimatedHistoryBytes() {
+        if (undoMode == UndoMode.DELTA) {
+            return undoChangeSets.stream().mapToLong(ChangeSet::getEstimatedBytes).sum()
+                    + redoChangeSets.stream().mapToLong(ChangeSet::getEstimatedBytes).sum();
+        }
+
+        Set<UniqueList<?>> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+        long total = 0;
+        for (AddressBook state : addressBookStateHistory) {
+            total += state.getEstimatedBytes(counted);
+        }
+        for (AddressBook state : addressBookRedoHistory) {
+            total += state.getEstimatedBytes(counted);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the current size and limits of the undo history.
+     */
+    public UndoHistoryStatistics getHistoryStatistics() {
+        return new UndoHistoryStatistics(getUndoCount(), getRedoCount(), getEstimatedHistoryBytes(),
+                maxHistoryDepth, maxHistoryBytes);
+    }
+
+    /**
+     * Reverts the changes made since the last commit and removes that commit from the history.
+     * This is used when a command fails after commit, possibly after changing some of the data.
      */
     public void rollbackLastCommit() {
+        if (undoMode == UndoMode.DELTA) {
+            setEditListener(null);
+            if (!undoChangeSets.isEmpty()) {
+                undoChangeSets.pop().revert();
+            }
+            return;
+        }
+
         if (!addressBookStateHistory.isEmpty()) {
-            addressBookStateHistory.pop();
+            AddressBook committedState = addressBookStateHistory.pop();
+            resetData(committedState);
+            latestSnapshot = committedState;
         }
     }
 
@@ -54,16 +175,28 @@ public class VersionedAddressBook extends AddressBook {
      * @return true if undo was successful, false if there are no states to undo
      */
     public boolean undo() {
+        if (undoMode == UndoMode.DELTA) {
+            if (undoChangeSets.isEmpty()) {
+                return false;
+            }
+            setEditListener(null);
+            ChangeSet changeSet = undoChangeSets.pop();
+            changeSet.revert();
+            redoChangeSets.push(changeSet);
+            return true;
+        }
+
         if (addressBookStateHistory.isEmpty()) {
             return false;
         }
 
         // Save current state to redo history
-        addressBookRedoHistory.push(new AddressBook(this));
+        addressBookRedoHistory.push(takeSnapshot());
 
         // Restore previous state
-        ReadOnlyAddressBook previousState = addressBookStateHistory.pop();
+        AddressBook previousState = addressBookStateHistory.pop();
         resetData(previousState);
+        latestSnapshot = previousState;
 
         return true;
     }
@@ -73,46 +206,66 @@ public class VersionedAddressBook extends AddressBook {
      * @return true if redo was successful, false if there are no states to redo
      */
     public boolean redo() {
+        if (undoMode == UndoMode.DELTA) {
+            if (redoChangeSets.isEmpty()) {
+                return false;
+            }
+            setEditListener(null);
+            ChangeSet changeSet = redoChangeSets.pop();
+            changeSet.apply();
+            undoChangeSets.push(changeSet);
+            return true;
+        }
+
         if (addressBookRedoHistory.isEmpty()) {
             return false;
         }
 
         // Save current state to undo history
-        addressBookStateHistory.push(new AddressBook(this));
+        addressBookStateHistory.push(takeSnapshot());
 
         // Restore next state
-        ReadOnlyAddressBook nextState = addressBookRedoHistory.pop();
+        AddressBook nextState = addressBookRedoHistory.pop();
         resetData(nextState);
+        latestSnapshot = nextState;
 
         return true;
     }
 
+    /**
+     * Returns a snapshot of the current state that shares unchanged lists with the latest snapshot.
+     */
+    private AddressBook takeSnapshot() {
+        latestSnapshot = snapshot(latestSnapshot);
+        return latestSnapshot;
+    }
+
     /**
      * Returns true if there are states available to undo.
      */
     public boolean canUndo() {
-        return !addressBookStateHistory.isEmpty();
+        return getUndoCount() > 0;
     }
 
     /**
      * Returns true if there are states available to redo.
      */
     public boolean canRedo() {
-        return !addressBookRedoHistory.isEmpty();
+        return getRedoCount() > 0;
     }
 
     /**
      * Returns the number of states available to undo.
      */
     public int getUndoCount() {
-        return addressBookStateHistory.size();
+        return undoMode == UndoMode.DELTA ? undoChangeSets.size() : addressBookStateHistory.size();
     }
 
     /**
      * Returns the number of states available to redo.
      */
     public int getRedoCount() {
-        return addressBookRedoHistory.size();
+        return undoMode == UndoMode.DELTA ? redoChangeSets.size() : addressBookRedoHistory.size();
     }
 
     @Override
@@ -127,16 +280,20 @@ public class VersionedAddressBook extends AddressBook {
 
         VersionedAddressBook otherVersionedAddressBook = (VersionedAddressBook) other;
         return super.equals(otherVersionedAddressBook)
+                && undoMode == otherVersionedAddressBook.undoMode
                 && addressBookStateHistory.equals(otherVersionedAddressBook.addressBookStateHistory)
-                && addressBookRedoHistory.equals(otherVersionedAddressBook.addressBookRedoHistory);
+                && addressBookRedoHistory.equals(otherVersionedAddressBook.addressBookRedoHistory)
+                && undoChangeSets.equals(otherVersionedAddressBook.undoChangeSets)
+                && redoChangeSets.equals(otherVersionedAddressBook.redoChangeSets);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("addressBook", super.toString())
-                .add("undoHistorySize", addressBookStateHistory.size())
-                .add("redoHistorySize", addressBookRedoHistory.size())
+                .add("undoMode", undoMode)
+                .add("undoHistorySize", getUndoCount())
+                .add("redoHistorySize", getRedoCount())
                 .toString();
     }
 }
@@ -6,32 +6,33 @@ import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.event.EventId;
-import seedu.address.model.person.Name;
+import seedu.address.model.person.MemberId;
 
 /**
  * Represents an Attendance record in the address book.
+ * The member is referred to by their {@code MemberId}, so a record is unaffected when the member is renamed.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Attendance {
 
     private final EventId eventId;
-    private final Name memberName;
+    private final MemberId memberId;
     private final boolean hasAttended;
 
     /**
      * Every field must be present and not null.
      */
-    public Attendance(EventId eventId, Name memberName) {
-        this(eventId, memberName, false);
+    public Attendance(EventId eventId, MemberId memberId) {
+        this(eventId, memberId, false);
     }
 
     /**
      * Creates an {@code Attendance} with the specified attendance status.
      */
-    public Attendance(EventId eventId, Name memberName, boolean hasAttended) {
-        requireAllNonNull(eventId, memberName);
+    public Attendance(EventId eventId, MemberId memberId, boolean hasAttended) {
+        requireAllNonNull(eventId, memberId);
         this.eventId = eventId;
-        this.memberName = memberName;
+        this.memberId = memberId;
         this.hasAttended = hasAttended;
     }
 
@@ -39,8 +40,8 @@ public class Attendance {
         return eventId;
     }
 
-    public Name getMemberName() {
-        return memberName;
+    public MemberId getMemberId() {
+        return memberId;
     }
 
     public boolean hasAttended() {
@@ -54,7 +55,7 @@ public class Attendance {
         if (hasAttended) {
             return this;
         }
-        return new Attendance(eventId, memberName, true);
+        return new Attendance(eventId, memberId, true);
     }
 
     /**
@@ -64,11 +65,11 @@ public class Attendance {
         if (!hasAttended) {
             return this;
         }
-        return new Attendance(eventId, memberName, false);
+        return new Attendance(eventId, memberId, false);
     }
 
     /**
-     * Returns true if both attendance records have the same event ID and member name.
+     * Returns true if both attendance records have the same event ID and member ID.
      * This defines a weaker notion of equality between two attendance records.
      */
     public boolean isSameAttendance(Attendance otherAttendance) {
@@ -78,7 +79,7 @@ public class Attendance {
 
         return otherAttendance != null
                 && otherAttendance.getEventId().equals(getEventId())
-                && otherAttendance.getMemberName().equals(getMemberName());
+                && otherAttendance.getMemberId().equals(getMemberId());
     }
 
     @Override
@@ -94,20 +95,20 @@ public class Attendance {
 
         Attendance otherAttendance = (Attendance) other;
         return eventId.equals(otherAttendance.eventId)
-                && memberName.equals(otherAttendance.memberName)
+                && memberId.equals(otherAttendance.memberId)
                 && hasAttended == otherAttendance.hasAttended;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(eventId, memberName, hasAttended);
+        return Objects.hash(eventId, memberId, hasAttended);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("eventId", eventId)
-                .add("memberName", memberName)
+                .add("memberId", memberId)
                 .add("hasAttended", hasAttended)
                 .toString();
     }
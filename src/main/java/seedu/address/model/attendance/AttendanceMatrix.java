@@ -0,0 +1,377 @@
+package seedu.address.model.attendance;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.attendance.exceptions.AttendanceNotFoundException;
+import seedu.address.model.event.EventId;
+import seedu.address.model.person.MemberId;
+
+/**
+ * The attendance records of a number of events, kept column by column rather than as {@code Attendance} objects.
+ * <p>
+ * Every member is given a dense ordinal the first time they are seen. Each event is then a pair of bitsets over
+ * these ordinals: one of the members that have a record of the event, and one of those marked as attended.
+ * Records of a whole roster are marked or unmarked with a few word operations, and rosters are sized with popcounts.
+ * {@code Attendance} objects are only created when records are asked for, in the order their members were first
+ * seen.
+ * <p>
+ * The bitsets of an event are never changed once made, and copies of a matrix share them along with the member
+ * ordinals, which are only ever added to.
+ */
+class AttendanceMatrix {
+
+    private final MemberOrdinals ordinals;
+    private final Map<EventId, EventColumns> columnsByEvent;
+
+    /**
+     * Creates an empty matrix.
+     */
+    AttendanceMatrix() {
+        ordinals = new MemberOrdinals();
+        columnsByEvent = new LinkedHashMap<>();
+    }
+
+    /**
+     * Creates a copy of {@code toCopy}.
+     */
+    AttendanceMatrix(AttendanceMatrix toCopy) {
+        requireNonNull(toCopy);
+        ordinals = toCopy.ordinals;
+        columnsByEvent = new LinkedHashMap<>(toCopy.columnsByEvent);
+    }
+
+    boolean isEmpty() {
+        return columnsByEvent.isEmpty();
+    }
+
+    boolean containsEvent(EventId eventId) {
+        return columnsByEvent.containsKey(eventId);
+    }
+
+    /**
+     * Adds the records in {@code attendance}, whose event must not already be in the matrix.
+     */
+    void add(SerializedEventAttendance attendance) {
+        requireNonNull(attendance);
+        assert !containsEvent(attendance.getEventId());
+        long[] registered = new long[0];
+        long[] attended = new long[0];
+        for (int i = 0; i < attendance.size(); i++) {
+            int ordinal = ordinals.getOrAssign(attendance.getMemberId(i));
+            registered = setBit(registered, ordinal);
+            if (attendance.hasAttended(i)) {
+                attended = setBit(attended, ordinal);
+            }
+        }
+        columnsByEvent.put(attendance.getEventId(), new EventColumns(registered, attended));
+    }
+
+    /**
+     * Returns true if the event {@code eventId} has a record of the member {@code memberId}.
+     */
+    boolean hasRecord(EventId eventId, MemberId memberId) {
+        EventColumns columns = columnsByEvent.get(eventId);
+        int ordinal = ordinals.get(memberId.value);
+        return columns != null && ordinal >= 0 && getBit(columns.registered, ordinal);
+    }
+
+    /**
+     * Returns the events that have a record of the member {@code memberId}.
+     */
+    List<EventId> getEventsOfMember(MemberId memberId) {
+        int ordinal = ordinals.get(memberId.value);
+        List<EventId> eventIds = new ArrayList<>();
+        if (ordinal < 0) {
+            return eventIds;
+        }
+        columnsByEvent.forEach((eventId, columns) -> {
+            if (getBit(columns.registered, ordinal)) {
+                eventIds.add(eventId);
+            }
+        });
+        return eventIds;
+    }
+
+    /**
+     * Returns the members that have a record of the event {@code eventId}, or only those marked as attended if
+     * {@code attendedOnly} is true.
+     */
+    List<MemberId> getMembersOfEvent(EventId eventId, boolean attendedOnly) {
+        EventColumns columns = columnsByEvent.get(eventId);
+        if (columns == null) {
+            return new ArrayList<>();
+        }
+        long[] words = attendedOnly ? columns.attended : columns.registered;
+        List<MemberId> memberIds = new ArrayList<>(countBits(words));
+        forEachBit(words, ordinal -> memberIds.add(ordinals.getMemberId(ordinal)));
+        return memberIds;
+    }
+
+    /**
+     * Marks the records of the members {@code memberIds} at the event {@code eventId} as attended, or as absent if
+     * {@code hasAttended} is false. Returns true if any record changed.
+     *
+     * @throws AttendanceNotFoundException if the event has no record of one of the members.
+     */
+    boolean setAttended(EventId eventId, Collection<MemberId> memberIds, boolean hasAttended) {
+        requireAllNonNull(eventId, memberIds);
+        EventColumns columns = columnsByEvent.get(eventId);
+        if (columns == null) {
+            throw new AttendanceNotFoundException();
+        }
+        long[] mask = new long[columns.registered.length];
+        for (MemberId memberId : memberIds) {
+            int ordinal = ordinals.get(memberId.value);
+            if (ordinal < 0 || !getBit(columns.registered, ordinal)) {
+                throw new AttendanceNotFoundException();
+            }
+            mask[ordinal >>> 6] |= 1L << ordinal;
+        }
+
+        long[] attended = Arrays.copyOf(columns.attended, mask.length);
+        for (int i = 0; i < mask.length; i++) {
+            attended[i] = hasAttended ? attended[i] | mask[i] : attended[i] & ~mask[i];
+        }
+        if (Arrays.equals(trim(attended), columns.attended)) {
+            return false;
+        }
+        columnsByEvent.put(eventId, new EventColumns(columns.registered, attended));
+        return true;
+    }
+
+    /**
+     * Removes every record of the member {@code memberId}, along with events left without any record. Returns true
+     * if the member had any record.
+     */
+    boolean removeMember(MemberId memberId) {
+        int ordinal = ordinals.get(memberId.value);
+        if (ordinal < 0) {
+            return false;
+        }
+        boolean isRemoved = false;
+        Iterator<Map.Entry<EventId, EventColumns>> iterator = columnsByEvent.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<EventId, EventColumns> entry = iterator.next();
+            EventColumns columns = entry.getValue();
+            if (!getBit(columns.registered, ordinal)) {
+                continue;
+            }
+            long[] registered = clearBit(columns.registered, ordinal);
+            if (registered.length == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue(new EventColumns(registered, clearBit(columns.attended, ordinal)));
+            }
+            isRemoved = true;
+        }
+        return isRemoved;
+    }
+
+    /**
+     * Removes the event {@code eventId} and returns its records, or an empty list if the event is not in the
+     * matrix.
+     */
+    List<Attendance> removeEvent(EventId eventId) {
+        EventColumns columns = columnsByEvent.remove(eventId);
+        return columns == null ? new ArrayList<>() : toAttendances(eventId, columns);
+    }
+
+    /**
+     * Removes every event and returns their records.
+     */
+    List<Attendance> removeAll() {
+        List<Attendance> attendances = new ArrayList<>();
+        columnsByEvent.forEach((eventId, columns) -> attendances.addAll(toAttendances(eventId, columns)));
+        columnsByEvent.clear();
+        return attendances;
+    }
+
+    /**
+     * Returns the records of every event as the plain member IDs and attendance flags they are saved as.
+     */
+    List<SerializedEventAttendance> toSerializedAttendances() {
+        List<SerializedEventAttendance> serializedAttendances = new ArrayList<>(columnsByEvent.size());
+        columnsByEvent.forEach((eventId, columns) -> {
+            List<String> memberIds = new ArrayList<>(countBits(columns.registered));
+            BitSet attended = new BitSet();
+            forEachBit(columns.registered, ordinal -> {
+                if (getBit(columns.attended, ordinal)) {
+                    attended.set(memberIds.size());
+                }
+                memberIds.add(ordinals.getMemberId(ordinal).value);
+            });
+            serializedAttendances.add(new SerializedEventAttendance(eventId, memberIds, attended));
+        });
+        return serializedAttendances;
+    }
+
+    /**
+     * Returns true if both matrices hold the records of the same events, in the same order, with the same members
+     * and attendance flags. The ordinals of the members are not compared, as they depend on the order in which the
+     * members were first seen.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceMatrix)) {
+            return false;
+        }
+
+        AttendanceMatrix otherMatrix = (AttendanceMatrix) other;
+        if (!new ArrayList<>(columnsByEvent.keySet()).equals(new ArrayList<>(otherMatrix.columnsByEvent.keySet()))) {
+            return false;
+        }
+        for (Map.Entry<EventId, EventColumns> entry : columnsByEvent.entrySet()) {
+            EventId eventId = entry.getKey();
+            EventColumns columns = entry.getValue();
+            EventColumns otherColumns = otherMatrix.columnsByEvent.get(eventId);
+            boolean isEqual = ordinals == otherMatrix.ordinals
+                    ? Arrays.equals(columns.registered, otherColumns.registered)
+                            && Arrays.equals(columns.attended, otherColumns.attended)
+                    : new HashSet<>(getMembersOfEvent(eventId, false))
+                            .equals(new HashSet<>(otherMatrix.getMembersOfEvent(eventId, false)))
+                            && new HashSet<>(getMembersOfEvent(eventId, true))
+                            .equals(new HashSet<>(otherMatrix.getMembersOfEvent(eventId, true)));
+            if (!isEqual) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return new ArrayList<>(columnsByEvent.keySet()).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        columnsByEvent.forEach((eventId, columns) -> builder.append(builder.length() > 1 ? ", " : "")
+                .append(eventId).append("=").append(countBits(columns.registered)).append(" records"));
+        return builder.append("}").toString();
+    }
+
+    private List<Attendance> toAttendances(EventId eventId, EventColumns columns) {
+        List<Attendance> attendances = new ArrayList<>(countBits(columns.registered));
+        forEachBit(columns.registered, ordinal -> attendances.add(
+                new Attendance(eventId, ordinals.getMemberId(ordinal), getBit(columns.attended, ordinal))));
+        return attendances;
+    }
+
+    private static boolean getBit(long[] words, int bit) {
+        int wordIndex = bit >>> 6;
+        return wordIndex < words.length && (words[wordIndex] & (1L << bit)) != 0;
+    }
+
+    private static long[] setBit(long[] words, int bit) {
+        int wordIndex = bit >>> 6;
+        long[] result = wordIndex < words.length ? words : Arrays.copyOf(words, wordIndex + 1);
+        result[wordIndex] |= 1L << bit;
+        return result;
+    }
+
+    private static long[] clearBit(long[] words, int bit) {
+        long[] result = words.clone();
+        if ((bit >>> 6) < result.length) {
+            result[bit >>> 6] &= ~(1L << bit);
+        }
+        return trim(result);
+    }
+
+    /**
+     * Returns {@code words} without its trailing zero words, so that equal sets of bits have equal arrays.
+     */
+    private static long[] trim(long[] words) {
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+        return length == words.length ? words : Arrays.copyOf(words, length);
+    }
+
+    private static int countBits(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static void forEachBit(long[] words, BitConsumer consumer) {
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                consumer.accept((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface BitConsumer {
+        void accept(int bit);
+    }
+
+    /**
+     * The bitsets of one event. Bits of {@code attended} are only ever set where {@code registered} is set.
+     */
+    private static class EventColumns {
+        private final long[] registered;
+        private final long[] attended;
+
+        private EventColumns(long[] registered, long[] attended) {
+            this.registered = trim(registered);
+            this.attended = trim(attended);
+        }
+    }
+
+    /**
+     * The dense ordinals given to members, which are shared by copies of a matrix and only ever added to.
+     * Copies may be read by another thread, such as one saving the data, so access is synchronized.
+     */
+    private static class MemberOrdinals {
+        private final List<MemberId> memberIds = new ArrayList<>();
+        private final Map<String, Integer> ordinals = new HashMap<>();
+
+        /**
+         * Returns the ordinal of the member with the ID {@code memberId}, or -1 if they have not been given one.
+         */
+        synchronized int get(String memberId) {
+            return ordinals.getOrDefault(memberId, -1);
+        }
+
+        /**
+         * Returns the ordinal of the member with the ID {@code memberId}, giving them the next one if needed.
+         */
+        synchronized int getOrAssign(String memberId) {
+            Integer ordinal = ordinals.get(memberId);
+            if (ordinal != null) {
+                return ordinal;
+            }
+            memberIds.add(new MemberId(memberId));
+            ordinals.put(memberId, memberIds.size() - 1);
+            return memberIds.size() - 1;
+        }
+
+        synchronized MemberId getMemberId(int ordinal) {
+            return memberIds.get(ordinal);
+        }
+    }
+}
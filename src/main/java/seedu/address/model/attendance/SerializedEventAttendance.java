@@ -0,0 +1,59 @@
+package seedu.address.model.attendance;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+
+import seedu.address.model.event.EventId;
+
+/**
+ * The attendance records of one event, as the plain member IDs and attendance flags they are read and saved as.
+ * Records added to a {@link UniqueAttendanceList} in this form are kept in an {@link AttendanceMatrix} until they
+ * are first needed.
+ * Guarantees: immutable; member IDs are valid, in the upper case form of {@code MemberId#value} and distinct.
+ */
+public class SerializedEventAttendance {
+
+    private final EventId eventId;
+    private final String[] memberIds;
+    private final BitSet attended;
+
+    /**
+     * Creates the records of the event {@code eventId}, one for each of {@code memberIds}.
+     * The record of the member at position {@code i} is marked as attended if bit {@code i} of {@code attended}
+     * is set. Every member ID must be the {@code MemberId#value} of a valid {@code MemberId}, and no ID may appear
+     * twice.
+     */
+    public SerializedEventAttendance(EventId eventId, List<String> memberIds, BitSet attended) {
+        requireAllNonNull(eventId, memberIds, attended);
+        this.eventId = eventId;
+        this.memberIds = memberIds.toArray(new String[0]);
+        this.attended = (BitSet) attended.clone();
+    }
+
+    public EventId getEventId() {
+        return eventId;
+    }
+
+    /**
+     * Returns the number of records of the event.
+     */
+    public int size() {
+        return memberIds.length;
+    }
+
+    /**
+     * Returns the member ID of the record at {@code index}.
+     */
+    public String getMemberId(int index) {
+        return memberIds[index];
+    }
+
+    /**
+     * Returns true if the record at {@code index} is marked as attended.
+     */
+    public boolean hasAttended(int index) {
+        return attended.get(index);
+    }
+}
@@ -1,14 +1,27 @@
 package seedu.address.model.attendance;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+import javafx.collections.ObservableList;
 import seedu.address.model.UniqueList;
 import seedu.address.model.attendance.exceptions.AttendanceNotFoundException;
 import seedu.address.model.attendance.exceptions.DuplicateAttendanceException;
-import seedu.address.model.person.Name;
+import seedu.address.model.event.EventId;
+import seedu.address.model.person.MemberId;
 
 /**
  * A list of attendance records that enforces uniqueness between its elements and does not allow nulls.
@@ -18,12 +31,185 @@ import seedu.address.model.person.Name;
  * UniqueAttendanceList. However, the removal of an attendance record uses Attendance#equals(Object) so
  * as to ensure that the attendance record with exactly the same fields will be removed.
  *
+ * The records of an event can also be added unloaded, as a {@link SerializedEventAttendance}. Unloaded records
+ * are kept in an {@link AttendanceMatrix}, as bitsets over member ordinals, which answers queries about the members
+ * of an event and marks whole rosters without creating {@code Attendance} objects. They are loaded into the list
+ * the first time an operation needs the records of that event, and all at once by operations that involve every
+ * record, such as viewing the whole list. Loading does not change the contents of the list, so it keeps
+ * the version of the list; copies with equal versions hold the same records, though not necessarily in the same
+ * order once records have been loaded. Comparing lists loads nothing, so lists are only equal if they hold the same
+ * loaded records in the same order and the same unloaded records: copies with equal versions may not be equal.
+ *
+ * The loaded records are also indexed by event and by member, so that the records of one event or of one member
+ * are found without going through every record.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Attendance#isSameAttendance(Attendance)
  */
 public class UniqueAttendanceList extends UniqueList<Attendance> {
 
+    // Records that have not been loaded yet. Records of an event are either all loaded or all in here.
+    private AttendanceMatrix unloadedAttendances = new AttendanceMatrix();
+    // Loaded records of each event by member ID, in the order they were added
+    private final Map<EventId, Map<MemberId, Attendance>> attendancesByEvent = new HashMap<>();
+    // Events that each member has a loaded record of
+    private final Map<MemberId, Set<EventId>> eventsByMember = new HashMap<>();
+
+    /**
+     * Adds the records in {@code attendance} without loading them.
+     * The list must not already hold any record of the same event.
+     */
+    public void addUnloaded(SerializedEventAttendance attendance) {
+        requireNonNull(attendance);
+        EventId eventId = attendance.getEventId();
+        if (unloadedAttendances.containsEvent(eventId) || attendancesByEvent.containsKey(eventId)) {
+            throw createDuplicateException();
+        }
+        unloadedAttendances.add(attendance);
+        markModified();
+    }
+
+    /**
+     * Returns the records of the event {@code eventId}, loading them if needed.
+     */
+    public List<Attendance> getAttendancesOfEvent(EventId eventId) {
+        requireNonNull(eventId);
+        loadEvent(eventId);
+        return new ArrayList<>(attendancesByEvent.getOrDefault(eventId, Map.of()).values());
+    }
+
+    /**
+     * Returns the records of the member {@code memberId}, loading the events they have a record of if needed.
+     */
+    public List<Attendance> getAttendancesOfMember(MemberId memberId) {
+        requireNonNull(memberId);
+        loadEventsOfMember(memberId);
+        List<Attendance> attendances = new ArrayList<>();
+        for (EventId eventId : eventsByMember.getOrDefault(memberId, Set.of())) {
+            attendances.add(attendancesByEvent.get(eventId).get(memberId));
+        }
+        return attendances;
+    }
+
+    /**
+     * Returns the members that have a record of the event {@code eventId}, without loading its records.
+     */
+    public List<MemberId> getMembersOfEvent(EventId eventId) {
+        requireNonNull(eventId);
+        if (unloadedAttendances.containsEvent(eventId)) {
+            return unloadedAttendances.getMembersOfEvent(eventId, false);
+        }
+        return new ArrayList<>(attendancesByEvent.getOrDefault(eventId, Map.of()).keySet());
+    }
+
+    /**
+     * Returns the members whose record of the event {@code eventId} is marked as attended, without loading its
+     * records.
+     */
+    public List<MemberId> getAttendeesOfEvent(EventId eventId) {
+        requireNonNull(eventId);
+        if (unloadedAttendances.containsEvent(eventId)) {
+            return unloadedAttendances.getMembersOfEvent(eventId, true);
+        }
+        List<MemberId> attendees = new ArrayList<>();
+        attendancesByEvent.getOrDefault(eventId, Map.of()).forEach((memberId, attendance) -> {
+            if (attendance.hasAttended()) {
+                attendees.add(memberId);
+            }
+        });
+        return attendees;
+    }
+
+    /**
+     * Marks the records of the members {@code memberIds} at the event {@code eventId} as attended, or as absent if
+     * {@code hasAttended} is false. The records of an event that has not been loaded are marked in place, without
+     * loading them.
+     *
+     * @throws AttendanceNotFoundException if the event has no record of one of the members.
+     */
+    public void setAttendanceOfMembers(EventId eventId, Collection<MemberId> memberIds, boolean hasAttended) {
+        requireAllNonNull(eventId, memberIds);
+        if (unloadedAttendances.containsEvent(eventId) && !isRecordingEdits()) {
+            if (unloadedAttendances.setAttended(eventId, memberIds, hasAttended)) {
+                markModified();
+            }
+            return;
+        }
+
+        // the change is recorded in terms of loaded records only
+        loadEvent(eventId);
+        Map<MemberId, Attendance> eventAttendances = attendancesByEvent.getOrDefault(eventId, Map.of());
+        List<Attendance> targets = new ArrayList<>();
+        for (MemberId memberId : new LinkedHashSet<>(memberIds)) {
+            Attendance attendance = eventAttendances.get(memberId);
+            if (attendance == null) {
+                throw createNotFoundException();
+            }
+            if (attendance.hasAttended() != hasAttended) {
+                targets.add(attendance);
+            }
+        }
+        // replaced one by one, which keeps each record in its place among the records of its event
+        for (Attendance target : targets) {
+            setElement(target, hasAttended ? target.markAttended() : target.markAbsent());
+        }
+    }
+
+    /**
+     * Returns the records that have been loaded, without loading the rest.
+     */
+    public List<Attendance> getLoadedAttendances() {
+        return super.asUnmodifiableObservableList();
+    }
+
+    /**
+     * Returns the records that have not been loaded yet, grouped by event.
+     */
+    public List<SerializedEventAttendance> getUnloadedAttendances() {
+        return Collections.unmodifiableList(unloadedAttendances.toSerializedAttendances());
+    }
+
+    private void loadEvent(EventId eventId) {
+        if (unloadedAttendances.containsEvent(eventId)) {
+            addLoadedElements(unloadedAttendances.removeEvent(eventId));
+        }
+    }
+
+    private void loadEventsOfMember(MemberId memberId) {
+        unloadedAttendances.getEventsOfMember(memberId).forEach(this::loadEvent);
+    }
+
+    private void loadAll() {
+        if (unloadedAttendances.isEmpty()) {
+            return;
+        }
+        addLoadedElements(unloadedAttendances.removeAll());
+    }
+
+    @Override
+    public boolean contains(Attendance toCheck) {
+        requireNonNull(toCheck);
+        if (unloadedAttendances.containsEvent(toCheck.getEventId())) {
+            return unloadedAttendances.hasRecord(toCheck.getEventId(), toCheck.getMemberId());
+        }
+        return super.contains(toCheck);
+    }
+
+    @Override
+    public void add(Attendance toAdd) {
+        requireNonNull(toAdd);
+        loadEvent(toAdd.getEventId());
+        super.add(toAdd);
+    }
+
+    @Override
+    public void remove(Attendance toRemove) {
+        requireNonNull(toRemove);
+        loadEvent(toRemove.getEventId());
+        super.remove(toRemove);
+    }
+
     /**
      * Replaces the attendance record {@code target} in the list with {@code editedAttendance}.
      * {@code target} must exist in the list.
@@ -31,6 +217,9 @@ public class UniqueAttendanceList extends UniqueList<Attendance> {
      * attendance record in the list.
      */
     public void setAttendance(Attendance target, Attendance editedAttendance) {
+        requireAllNonNull(target, editedAttendance);
+        loadEvent(target.getEventId());
+        loadEvent(editedAttendance.getEventId());
         setElement(target, editedAttendance);
     }
 
@@ -47,29 +236,144 @@ public class UniqueAttendanceList extends UniqueList<Attendance> {
         setAllFromOther(replacement);
     }
 
+    @Override
+    public void setElements(List<Attendance> attendances) {
+        if (isRecordingEdits()) {
+            // the records being replaced must all be loaded for the change to be undone
+            loadAll();
+        }
+        super.setElements(attendances);
+        unloadedAttendances = new AttendanceMatrix();
+    }
+
+    @Override
+    protected void setAllFromOther(UniqueList<Attendance> other) {
+        UniqueAttendanceList otherList = (UniqueAttendanceList) other;
+        if (isRecordingEdits()) {
+            // the change is recorded in terms of loaded records only
+            loadAll();
+            otherList.loadAll();
+        }
+        super.setAllFromOther(other);
+        unloadedAttendances = new AttendanceMatrix(otherList.unloadedAttendances);
+    }
+
     /**
-     * Renames the member in all attendance records from {@code oldName} to {@code newName}.
+     * Moves all attendance records of the member {@code oldId} to the member {@code newId}.
+     * Records refer to members by ID, so this is only needed when the ID of a member changes, not when they are
+     * renamed.
      */
-    public void renameMember(Name oldName, Name newName) {
-        requireNonNull(oldName);
-        requireNonNull(newName);
-        List<Attendance> updatedAttendances = new ArrayList<>();
-        for (Attendance attendance : internalList) {
-            if (attendance.getMemberName().equals(oldName)) {
-                updatedAttendances.add(new Attendance(attendance.getEventId(), newName, attendance.hasAttended()));
-            } else {
-                updatedAttendances.add(attendance);
-            }
+    public void reassignMember(MemberId oldId, MemberId newId) {
+        requireNonNull(oldId);
+        requireNonNull(newId);
+        Map<Attendance, Attendance> reassignedAttendances = new HashMap<>();
+        for (Attendance attendance : getAttendancesOfMember(oldId)) {
+            reassignedAttendances.put(attendance,
+                    new Attendance(attendance.getEventId(), newId, attendance.hasAttended()));
         }
-        setElements(updatedAttendances);
+        replaceElements(reassignedAttendances);
+    }
+
+    /**
+     * Removes all attendance records that belong to the member {@code memberId}.
+     */
+    public void removeAttendancesByMember(MemberId memberId) {
+        requireNonNull(memberId);
+        if (!isRecordingEdits() && unloadedAttendances.removeMember(memberId)) {
+            markModified();
+        }
+        Set<Attendance> memberAttendances = new HashSet<>(getAttendancesOfMember(memberId));
+        if (memberAttendances.isEmpty()) {
+            return;
+        }
+        removeElementsIf(memberAttendances::contains);
+    }
+
+    /**
+     * Returns every record, loading those that have not been loaded yet.
+     */
+    @Override
+    public ObservableList<Attendance> asUnmodifiableObservableList() {
+        loadAll();
+        return super.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public Iterator<Attendance> iterator() {
+        loadAll();
+        return super.iterator();
     }
 
     /**
-     * Removes all attendance records that belong to {@code memberName}.
+     * Returns true if both lists hold the same loaded records, in the same order, and the same unloaded records.
+     * No record is loaded to compare them, so a list whose records are loaded is not equal to one that holds the
+     * same records unloaded.
      */
-    public void removeAttendancesByMember(Name memberName) {
-        requireNonNull(memberName);
-        internalList.removeIf(attendance -> attendance.getMemberName().equals(memberName));
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UniqueAttendanceList)) {
+            return false;
+        }
+
+        UniqueAttendanceList otherList = (UniqueAttendanceList) other;
+        return internalList.equals(otherList.internalList)
+                && unloadedAttendances.equals(otherList.unloadedAttendances);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(internalList, unloadedAttendances);
+    }
+
+    @Override
+    public String toString() {
+        return unloadedAttendances.isEmpty()
+                ? internalList.toString()
+                : internalList + " and unloaded " + unloadedAttendances;
+    }
+
+    @Override
+    protected void onElementIndexed(Attendance attendance) {
+        attendancesByEvent.computeIfAbsent(attendance.getEventId(), unused -> new LinkedHashMap<>())
+                .put(attendance.getMemberId(), attendance);
+        eventsByMember.computeIfAbsent(attendance.getMemberId(), unused -> new LinkedHashSet<>())
+                .add(attendance.getEventId());
+    }
+
+    @Override
+    protected void onElementUnindexed(Attendance attendance) {
+        Map<MemberId, Attendance> eventAttendances = attendancesByEvent.get(attendance.getEventId());
+        eventAttendances.remove(attendance.getMemberId());
+        if (eventAttendances.isEmpty()) {
+            attendancesByEvent.remove(attendance.getEventId());
+        }
+        Set<EventId> memberEvents = eventsByMember.get(attendance.getMemberId());
+        memberEvents.remove(attendance.getEventId());
+        if (memberEvents.isEmpty()) {
+            eventsByMember.remove(attendance.getMemberId());
+        }
+    }
+
+    @Override
+    protected void onElementReindexed(Attendance current, Attendance replacement) {
+        if (current.isSameAttendance(replacement)) {
+            // keeps the record in its place among the records of its event
+            attendancesByEvent.get(current.getEventId()).put(current.getMemberId(), replacement);
+            return;
+        }
+        super.onElementReindexed(current, replacement);
+    }
+
+    @Override
+    protected void onElementsReindexed() {
+        attendancesByEvent.clear();
+        eventsByMember.clear();
+        internalList.forEach(this::onElementIndexed);
     }
 
     @Override
@@ -77,6 +381,11 @@ public class UniqueAttendanceList extends UniqueList<Attendance> {
         return attendance1.isSameAttendance(attendance2);
     }
 
+    @Override
+    protected Object getIdentityKey(Attendance attendance) {
+        return List.of(attendance.getEventId(), attendance.getMemberId());
+    }
+
     @Override
     protected RuntimeException createDuplicateException() {
         return new DuplicateAttendanceException();
@@ -58,9 +58,9 @@ public final class Budget {
     /** Returns remaining amount given total spent. Can be negative if overspending. */
     public String remaining(Money spent) {
         requireNonNull(spent);
-        java.math.BigDecimal result = amount.toBigDecimal().subtract(spent.toBigDecimal());
-        java.text.DecimalFormat df = new java.text.DecimalFormat("0.00");
-        return df.format(result);
+        // both amounts are non-negative longs, so neither the difference nor its magnitude can overflow
+        long remainingCents = amount.toCents() - spent.toCents();
+        return (remainingCents < 0 ? "-" : "") + Money.ofCents(Math.abs(remainingCents));
     }
 
     @Override
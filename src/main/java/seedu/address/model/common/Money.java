@@ -4,69 +4,95 @@ import static java.util.Objects.requireNonNull;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Objects;
 
 /**
- * Immutable monetary amount in SGD with scale=2. Non-negative only.
+ * Immutable monetary amount in SGD, to the cent. Non-negative only.
+ * Amounts are held as a whole number of cents, so arithmetic on them does not create any objects besides the
+ * result. BigDecimal is only used to parse amounts and to convert them for callers that need it.
  */
 public final class Money implements Comparable<Money> {
 
+    /** Money with no value. */
+    public static final Money ZERO = new Money(0);
+
     private static final int SCALE = 2;
+    private static final int CENTS_PER_UNIT = 100;
 
-    private final BigDecimal amount; // always >= 0, scale=2
+    private final long cents; // always >= 0
 
-    private Money(BigDecimal amount) {
-        requireNonNull(amount);
-        if (amount.compareTo(BigDecimal.ZERO) < 0) {
+    private Money(long cents) {
+        if (cents < 0) {
             throw new IllegalArgumentException("Money cannot be negative");
         }
-        this.amount = amount.setScale(SCALE, RoundingMode.UNNECESSARY);
+        this.cents = cents;
     }
 
-    /** Creates a Money from a BigDecimal, rounding to 2 dp (HALF_UP). */
+    /**
+     * Creates a Money from a BigDecimal, rounding to 2 dp (HALF_UP).
+     *
+     * @throws IllegalArgumentException if the amount is negative or has too many cents to hold.
+     */
     public static Money of(BigDecimal amount) {
-        return new Money(amount.setScale(SCALE, RoundingMode.HALF_UP));
+        requireNonNull(amount);
+        BigDecimal rounded = amount.setScale(SCALE, RoundingMode.HALF_UP);
+        try {
+            return ofCents(rounded.unscaledValue().longValueExact());
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException("Money amount is too large: " + amount.toPlainString(), ex);
+        }
     }
 
     /** Parses a decimal string into Money (2 dp, HALF_UP). */
     public static Money parse(String value) {
         try {
-            BigDecimal bd = new BigDecimal(value).setScale(SCALE, RoundingMode.HALF_UP);
-            return of(bd);
+            return of(new BigDecimal(value));
         } catch (NumberFormatException ex) {
             throw new IllegalArgumentException("Invalid money amount: " + value, ex);
         }
     }
 
+    /** Creates a Money from a whole number of cents. */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
     /** Returns a zero-valued Money. */
     public static Money zero() {
-        return of(BigDecimal.ZERO);
+        return ZERO;
     }
 
-    /** Returns the underlying BigDecimal amount. */
+    /** Returns the underlying amount as a BigDecimal with scale 2. */
     public BigDecimal toBigDecimal() {
-        return amount;
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    /** Returns the amount as a whole number of cents. */
+    public long toCents() {
+        return cents;
     }
 
-    /** Returns a new Money that is the sum of this and other. */
+    /**
+     * Returns a new Money that is the sum of this and other.
+     *
+     * @throws ArithmeticException if the sum has too many cents to hold.
+     */
     public Money plus(Money other) {
         requireNonNull(other);
-        return of(this.amount.add(other.amount));
+        return ofCents(Math.addExact(cents, other.cents));
     }
 
     /** Returns a new Money that is this minus other; throws if negative. */
     public Money minus(Money other) {
         requireNonNull(other);
-        BigDecimal result = this.amount.subtract(other.amount);
-        if (result.compareTo(BigDecimal.ZERO) < 0) {
+        if (other.cents > cents) {
             throw new IllegalArgumentException("Resulting money would be negative");
         }
-        return of(result);
+        return ofCents(cents - other.cents);
     }
 
     @Override
     public int compareTo(Money o) {
-        return this.amount.compareTo(o.amount);
+        return Long.compare(cents, o.cents);
     }
 
     @Override
@@ -78,18 +104,17 @@ public final class Money implements Comparable<Money> {
             return false;
         }
         Money money = (Money) o;
-        return Objects.equals(amount, money.amount);
+        return cents == money.cents;
     }
 
     @Override
     public int hashCode() {
-        return amount.hashCode();
+        return Long.hashCode(cents);
     }
 
     @Override
     public String toString() {
-        return amount.setScale(SCALE, RoundingMode.UNNECESSARY).toPlainString();
+        long fraction = cents % CENTS_PER_UNIT;
+        return (cents / CENTS_PER_UNIT) + (fraction < 10 ? ".0" : ".") + fraction;
     }
 }
-
-
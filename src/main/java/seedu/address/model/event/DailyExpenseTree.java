@@ -0,0 +1,114 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+
+/**
+ * Running totals of event expenses by date, in cents, as a Fenwick tree over day ordinals.
+ * <p>
+ * Adding to the total of a day and summing the totals of any range of days both take O(log d), where d is the
+ * number of days covered. The tree covers the days from the earliest to the latest date it has been given, and is
+ * rebuilt with room to spare when a date outside of them is added, so it takes 8 bytes for each day of that span.
+ * <p>
+ * Totals are added without overflow checks. This is safe because each expense is at most
+ * {@link Event#MAX_EXPENSE}, so no total of the events of a list can exceed a long.
+ */
+class DailyExpenseTree {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long firstDay; // epoch day of the first day covered
+    private long[] tree = new long[1]; // 1-based, so tree.length - 1 days are covered
+
+    /**
+     * Adds {@code cents}, which may be negative, to the total of {@code date}.
+     */
+    void add(LocalDate date, long cents) {
+        requireNonNull(date);
+        if (cents == 0) {
+            return;
+        }
+        long day = date.toEpochDay();
+        cover(day);
+        for (int i = toIndex(day); i < tree.length; i += i & -i) {
+            tree[i] += cents;
+        }
+    }
+
+    /**
+     * Returns the sum of the totals of the days from {@code start} to {@code end} inclusive.
+     */
+    long sum(LocalDate start, LocalDate end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        long lastDay = firstDay + tree.length - 2;
+        long from = Math.max(start.toEpochDay(), firstDay);
+        long to = Math.min(end.toEpochDay(), lastDay);
+        if (from > to) {
+            return 0;
+        }
+        return prefixSum(toIndex(to)) - prefixSum(toIndex(from) - 1);
+    }
+
+    /**
+     * Removes every total.
+     */
+    void clear() {
+        tree = new long[1];
+    }
+
+    private long prefixSum(int index) {
+        long sum = 0;
+        for (int i = index; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private int toIndex(long day) {
+        return (int) (day - firstDay) + 1;
+    }
+
+    /**
+     * Rebuilds the tree, if needed, so that it covers {@code day}.
+     */
+    private void cover(long day) {
+        int capacity = tree.length - 1;
+        if (capacity == 0) {
+            firstDay = day - INITIAL_CAPACITY / 2;
+            tree = new long[INITIAL_CAPACITY + 1];
+            return;
+        }
+        long lastDay = firstDay + capacity - 1;
+        if (day >= firstDay && day <= lastDay) {
+            return;
+        }
+
+        long newFirstDay = Math.min(firstDay, day);
+        long span = Math.max(lastDay, day) - newFirstDay + 1;
+        long newCapacity = Math.max(span, 2L * capacity);
+        if (day < firstDay) {
+            // leaves the extra room before the earliest day, where the tree grew
+            newFirstDay -= newCapacity - span;
+        }
+        if (newCapacity > Integer.MAX_VALUE - 1) {
+            throw new IllegalStateException("Event dates are too far apart to total their expenses");
+        }
+
+        long[] newTree = new long[(int) newCapacity + 1];
+        int offset = (int) (firstDay - newFirstDay);
+        for (int i = 1; i <= capacity; i++) {
+            newTree[i + offset] = prefixSum(i) - prefixSum(i - 1);
+        }
+        // turns the totals of each day into a Fenwick tree in place
+        for (int i = 1; i < newTree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < newTree.length) {
+                newTree[parent] += newTree[i];
+            }
+        }
+        firstDay = newFirstDay;
+        tree = newTree;
+    }
+}
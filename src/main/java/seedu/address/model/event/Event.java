@@ -1,5 +1,6 @@
 package seedu.address.model.event;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
@@ -21,10 +22,17 @@ public class Event {
     public static final String DATE_CONSTRAINTS = "Date should be in YYYY-MM-DD format";
     public static final String DESCRIPTION_CONSTRAINTS =
             "Description should not be empty and should not exceed 100 characters";
+    public static final String EXPENSE_CONSTRAINTS = "Expense should not exceed 10000000.00";
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9_]+$";
     public static final String DATE_FORMAT = "yyyy-MM-dd";
     public static final int MAX_DESCRIPTION_LENGTH = 100;
 
+    /**
+     * The largest expense of an event. An event list holds fewer than {@code Integer.MAX_VALUE} events, so the
+     * total expense of any number of them is at most about 2.1e18 cents and always fits in a long.
+     */
+    public static final Money MAX_EXPENSE = Money.ofCents(1_000_000_000L);
+
     private final EventId eventId;
     private final LocalDate date;
     private final String description;
@@ -46,6 +54,7 @@ public class Event {
      */
     public Event(EventId eventId, LocalDate date, String description, Money expense) {
         requireAllNonNull(eventId, date, description, expense);
+        checkArgument(isValidExpense(expense), EXPENSE_CONSTRAINTS);
         this.eventId = eventId;
         this.date = date;
         this.description = description;
@@ -107,6 +116,13 @@ public class Event {
         return test != null && !test.isEmpty() && test.length() <= MAX_DESCRIPTION_LENGTH;
     }
 
+    /**
+     * Returns true if a given amount is a valid expense.
+     */
+    public static boolean isValidExpense(Money test) {
+        return test.compareTo(MAX_EXPENSE) <= 0;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -2,9 +2,17 @@ package seedu.address.model.event;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 import seedu.address.model.UniqueList;
+import seedu.address.model.common.Money;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
 
@@ -15,12 +23,20 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
  * unique in terms of identity in the UniqueEventList. However, the removal of an event uses Event#equals(Object) so
  * as to ensure that the event with exactly the same fields will be removed.
  *
+ * Events are also indexed by date, so that the events within a date range are found without going through every
+ * event, and the events can be listed in chronological order without sorting them. Their expenses are kept as
+ * running totals by date, so that the total expense of any date range is found in logarithmic time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Event#isSameEvent(Event)
  */
 public class UniqueEventList extends UniqueList<Event> {
 
+    // Events on each date, in the order they were added
+    private final NavigableMap<LocalDate, List<Event>> eventsByDate = new TreeMap<>();
+    private final DailyExpenseTree expensesByDate = new DailyExpenseTree();
+
     /**
      * Replaces the event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the list.
@@ -43,11 +59,128 @@ public class UniqueEventList extends UniqueList<Event> {
         setAllFromOther(replacement);
     }
 
+    /**
+     * Returns the event with the event ID {@code eventId}, or null if the list has no such event.
+     */
+    public Event getEvent(EventId eventId) {
+        return getByIdentityKey(eventId);
+    }
+
+    /**
+     * Returns an unmodifiable view of the events in the list by their event ID, for looking up many events at once.
+     * The view stays in sync with the list as it changes.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<EventId, Event> asUnmodifiableEventIdMap() {
+        // the identity key of every event is its event ID
+        return (Map<EventId, Event>) (Map<?, Event>) asUnmodifiableIdentityIndex();
+    }
+
+    /**
+     * Returns the events dated from {@code start} to {@code end} inclusive, in chronological order.
+     */
+    public List<Event> getEventsWithin(LocalDate start, LocalDate end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        List<Event> events = new ArrayList<>();
+        if (start.isAfter(end)) {
+            return events;
+        }
+        eventsByDate.subMap(start, true, end, true).values().forEach(events::addAll);
+        return events;
+    }
+
+    /**
+     * Returns every event in chronological order. Events on the same date are in the order they were added.
+     */
+    public List<Event> getEventsInDateOrder() {
+        List<Event> events = new ArrayList<>(internalList.size());
+        eventsByDate.values().forEach(events::addAll);
+        return events;
+    }
+
+    /**
+     * Returns the total expense of the events dated from {@code start} to {@code end} inclusive.
+     */
+    public Money getTotalExpenseWithin(LocalDate start, LocalDate end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        if (start.isAfter(end)) {
+            return Money.zero();
+        }
+        return Money.ofCents(expensesByDate.sum(start, end));
+    }
+
+    /**
+     * Returns the total expense of the events dated from {@code start} to {@code end} inclusive, broken down into
+     * consecutive periods of length {@code period} from {@code start}, such as weeks or months. Each total is keyed
+     * by the first date of its period, and the last period ends at {@code end}.
+     */
+    public Map<LocalDate, Money> getExpenseBreakdownWithin(LocalDate start, LocalDate end, Period period) {
+        requireNonNull(start);
+        requireNonNull(end);
+        requireNonNull(period);
+        if (period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Period must be positive");
+        }
+        Map<LocalDate, Money> breakdown = new LinkedHashMap<>();
+        LocalDate periodStart = start;
+        for (int i = 1; !periodStart.isAfter(end); i++) {
+            // measured from start each time, so that months do not drift when a shorter month is passed
+            LocalDate nextPeriodStart = start.plus(period.multipliedBy(i));
+            LocalDate periodEnd = nextPeriodStart.minusDays(1).isAfter(end) ? end : nextPeriodStart.minusDays(1);
+            breakdown.put(periodStart, getTotalExpenseWithin(periodStart, periodEnd));
+            periodStart = nextPeriodStart;
+        }
+        return breakdown;
+    }
+
+    @Override
+    protected void onElementIndexed(Event event) {
+        eventsByDate.computeIfAbsent(event.getDate(), unused -> new ArrayList<>(1)).add(event);
+        expensesByDate.add(event.getDate(), event.getExpense().toCents());
+    }
+
+    @Override
+    protected void onElementUnindexed(Event event) {
+        List<Event> datedEvents = eventsByDate.get(event.getDate());
+        datedEvents.remove(event);
+        if (datedEvents.isEmpty()) {
+            eventsByDate.remove(event.getDate());
+        }
+        expensesByDate.add(event.getDate(), -event.getExpense().toCents());
+    }
+
+    @Override
+    protected void onElementReindexed(Event current, Event replacement) {
+        if (current.getDate().equals(replacement.getDate())) {
+            // keeps the event in its place among the events on the same date
+            List<Event> datedEvents = eventsByDate.get(current.getDate());
+            datedEvents.set(datedEvents.indexOf(current), replacement);
+            expensesByDate.add(current.getDate(),
+                    replacement.getExpense().toCents() - current.getExpense().toCents());
+            return;
+        }
+        super.onElementReindexed(current, replacement);
+    }
+
+    @Override
+    protected void onElementsReindexed() {
+        eventsByDate.clear();
+        expensesByDate.clear();
+        internalList.forEach(this::onElementIndexed);
+    }
+
     @Override
     protected boolean isSameElement(Event event1, Event event2) {
         return event1.isSameEvent(event2);
     }
 
+    @Override
+    protected Object getIdentityKey(Event event) {
+        return event.getEventId();
+    }
+
     @Override
     protected RuntimeException createDuplicateException() {
         return new DuplicateEventException();
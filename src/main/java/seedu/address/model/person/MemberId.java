@@ -0,0 +1,87 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Locale;
+
+/**
+ * Represents the stable identifier of a member, which records such as attendance refer to the member by.
+ * It is the member's student number in upper case, so it stays the same when the member is renamed, and two
+ * members have the same ID exactly when they are the same person.
+ * Guarantees: immutable; is valid as declared in {@link #isValidMemberId(String)}
+ */
+public class MemberId {
+
+    public static final String MESSAGE_CONSTRAINTS = StudentNumber.MESSAGE_CONSTRAINTS;
+
+    public final String value;
+
+    /**
+     * Constructs a {@code MemberId}.
+     *
+     * @param memberId A valid student number, in any case.
+     */
+    public MemberId(String memberId) {
+        requireNonNull(memberId);
+        checkArgument(isValidMemberId(memberId), MESSAGE_CONSTRAINTS);
+        value = canonicalise(memberId);
+    }
+
+    /**
+     * Constructs the {@code MemberId} of {@code studentNumber}, which is known to be valid, so that looking up a
+     * member by student number does not check it again.
+     */
+    private MemberId(StudentNumber studentNumber) {
+        value = canonicalise(studentNumber.value);
+    }
+
+    /**
+     * Returns the ID of the member with the student number {@code studentNumber}.
+     */
+    public static MemberId of(StudentNumber studentNumber) {
+        requireNonNull(studentNumber);
+        return new MemberId(studentNumber);
+    }
+
+    /**
+     * Returns the {@link #value} of the ID of the valid student number {@code memberId}, without constructing the
+     * ID, for records that keep member IDs as strings.
+     */
+    public static String canonicalise(String memberId) {
+        // Locale.ROOT, as the upper case of "i" in some locales, such as Turkish, is not "I"
+        return memberId.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns true if a given string is a valid member ID.
+     */
+    public static boolean isValidMemberId(String test) {
+        return StudentNumber.isValidStudentNumber(test);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MemberId)) {
+            return false;
+        }
+
+        MemberId otherMemberId = (MemberId) other;
+        return value.equals(otherMemberId.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+}
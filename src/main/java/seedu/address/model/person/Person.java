@@ -20,6 +20,7 @@ public class Person {
     private final Name name;
     private final Year year;
     private final StudentNumber studentNumber;
+    private final MemberId memberId;
     private final Email email;
     private final Phone phone;
 
@@ -37,6 +38,7 @@ public class Person {
         this.name = name;
         this.year = year;
         this.studentNumber = studentNumber;
+        this.memberId = MemberId.of(studentNumber);
         this.email = email;
         this.phone = phone;
         this.dietaryRequirements = dietaryRequirements;
@@ -56,6 +58,13 @@ public class Person {
         return studentNumber;
     }
 
+    /**
+     * Returns the stable identifier that records such as attendance refer to this person by.
+     */
+    public MemberId getMemberId() {
+        return memberId;
+    }
+
     public Email getEmail() {
         return email;
     }
@@ -96,7 +105,7 @@ public class Person {
         }
 
         return otherPerson != null
-                && otherPerson.getStudentNumber().value.equalsIgnoreCase(getStudentNumber().value);
+                && otherPerson.getMemberId().equals(getMemberId());
     }
 
     /**
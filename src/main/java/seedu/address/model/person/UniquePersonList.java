@@ -2,7 +2,10 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import seedu.address.model.UniqueList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -15,12 +18,17 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are also indexed by name, so that a member named in a command is found without going through every person.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList extends UniqueList<Person> {
 
+    // Persons with each name, in the order they were added, as names need not be unique
+    private final Map<Name, List<Person>> personsByName = new HashMap<>();
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -43,11 +51,67 @@ public class UniquePersonList extends UniqueList<Person> {
         setAllFromOther(replacement);
     }
 
+    /**
+     * Returns the person with the member ID {@code memberId}, or null if the list has no such person.
+     */
+    public Person getPerson(MemberId memberId) {
+        return getByIdentityKey(memberId);
+    }
+
+    /**
+     * Returns the persons named {@code name}, in the order they were added, or an empty list if the list has no
+     * such person.
+     */
+    public List<Person> getPersons(Name name) {
+        requireNonNull(name);
+        List<Person> namedPersons = personsByName.get(name);
+        return namedPersons == null ? List.of() : List.copyOf(namedPersons);
+    }
+
+    @Override
+    protected void onElementIndexed(Person person) {
+        personsByName.computeIfAbsent(person.getName(), unused -> new ArrayList<>(1)).add(person);
+    }
+
+    @Override
+    protected void onElementUnindexed(Person person) {
+        List<Person> namedPersons = personsByName.get(person.getName());
+        namedPersons.remove(person);
+        if (namedPersons.isEmpty()) {
+            personsByName.remove(person.getName());
+        }
+    }
+
+    @Override
+    protected void onElementReindexed(Person current, Person replacement) {
+        if (current.getName().equals(replacement.getName())) {
+            // keeps the person in their place among the persons with the same name
+            List<Person> namedPersons = personsByName.get(current.getName());
+            namedPersons.set(namedPersons.indexOf(current), replacement);
+            return;
+        }
+        super.onElementReindexed(current, replacement);
+    }
+
+    @Override
+    protected void onElementsReindexed() {
+        personsByName.clear();
+        internalList.forEach(this::onElementIndexed);
+    }
+
     @Override
     protected boolean isSameElement(Person person1, Person person2) {
         return person1.isSamePerson(person2);
     }
 
+    /**
+     * Returns the member ID, which is the case-folded student number, mirroring {@link Person#isSamePerson(Person)}.
+     */
+    @Override
+    protected Object getIdentityKey(Person person) {
+        return person.getMemberId();
+    }
+
     @Override
     protected RuntimeException createDuplicateException() {
         return new DuplicatePersonException();
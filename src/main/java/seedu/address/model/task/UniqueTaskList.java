@@ -2,6 +2,7 @@ package seedu.address.model.task;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
 import java.util.List;
 
 import seedu.address.model.UniqueList;
@@ -48,6 +49,15 @@ public class UniqueTaskList extends UniqueList<Task> {
         return task1.isSameTask(task2);
     }
 
+    /**
+     * Returns the (title, deadline) pair, mirroring {@link Task#isSameTask(Task)}.
+     * The deadline may be null, so the key is built with {@code Arrays.asList}.
+     */
+    @Override
+    protected Object getIdentityKey(Task task) {
+        return Arrays.asList(task.getTitle(), task.getDeadline());
+    }
+
     @Override
     protected RuntimeException createDuplicateException() {
         return new DuplicateTaskException();
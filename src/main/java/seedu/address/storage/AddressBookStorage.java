@@ -42,4 +42,20 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Throws the error of a save that failed after {@code saveAddressBook} had already returned, if any.
+     * Each such error is only thrown once.
+     * Storages that save synchronously report their errors directly, so they have nothing to throw here.
+     *
+     * @throws IOException if a save that was still in progress when {@code saveAddressBook} returned has failed.
+     */
+    default void checkSaveFailure() throws IOException {}
+
+    /**
+     * Blocks until every save requested so far has been written.
+     *
+     * @throws IOException if any of those saves failed.
+     */
+    default void flush() throws IOException {}
+
 }
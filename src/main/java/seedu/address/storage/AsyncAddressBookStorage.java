@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that writes to another {@code AddressBookStorage} on a background thread.
+ * Each save takes a snapshot of the address book and returns immediately. The snapshot shares the lists that have
+ * not changed since the previous save with the previous snapshot, so a save only copies the lists that changed.
+ * Saves to the same file that are requested
+ * while an earlier one is still being written are collapsed, so only the latest copy is written.
+ * Errors from background writes are reported by the next call to {@link #saveAddressBook}, {@link #flush()} or
+ * {@link #checkSaveFailure()}.
+ */
+public class AsyncAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService writer;
+    private final AtomicReference<IOException> saveFailure = new AtomicReference<>();
+    private AddressBook lastSnapshot; // null until the first save of an AddressBook
+
+    // Guarded by this
+    private final Map<Path, ReadOnlyAddressBook> pendingSaves = new LinkedHashMap<>();
+    private Future<?> scheduledWrite; // null if no write is scheduled
+
+    /**
+     * Creates an {@code AsyncAddressBookStorage} that writes through {@code storage}.
+     */
+    public AsyncAddressBookStorage(AddressBookStorage storage) {
+        this.storage = storage;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBook writer");
+            // Pending writes are flushed explicitly on exit, so the thread must not keep the app alive
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the address book at {@code filePath} once every pending write has finished,
+     * so that data saved earlier is never missed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        try {
+            awaitScheduledWrite();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Schedules a copy of {@code addressBook} to be written to {@code filePath}.
+     *
+     * @throws IOException if an earlier background write has failed since it was last reported.
+     *     {@code addressBook} is still scheduled to be written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        // Taken before scheduling, so that a failure of the write scheduled here is not reported as an earlier one
+        IOException earlierFailure = saveFailure.getAndSet(null);
+
+        // The caller may keep modifying addressBook, so the writer works on a snapshot of it
+        AddressBook snapshot;
+        if (addressBook instanceof AddressBook) {
+            lastSnapshot = ((AddressBook) addressBook).snapshot(lastSnapshot);
+            snapshot = lastSnapshot;
+        } else {
+            snapshot = new AddressBook(addressBook);
+        }
+        synchronized (this) {
+            pendingSaves.put(filePath, snapshot);
+            if (scheduledWrite == null) {
+                scheduledWrite = writer.submit(this::writePendingSaves);
+            }
+        }
+        if (earlierFailure != null) {
+            throw earlierFailure;
+        }
+    }
+
+    @Override
+    public void checkSaveFailure() throws IOException {
+        IOException failure = saveFailure.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        awaitScheduledWrite();
+        checkSaveFailure();
+        storage.flush();
+    }
+
+    private void awaitScheduledWrite() throws IOException {
+        Future<?> write;
+        synchronized (this) {
+            write = scheduledWrite;
+        }
+        if (write == null) {
+            return;
+        }
+
+        try {
+            write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Writes pending saves, oldest file first, until there are none left.
+     */
+    private void writePendingSaves() {
+        while (true) {
+            Path filePath;
+            ReadOnlyAddressBook addressBook;
+            synchronized (this) {
+                Iterator<Map.Entry<Path, ReadOnlyAddressBook>> iterator = pendingSaves.entrySet().iterator();
+                if (!iterator.hasNext()) {
+                    scheduledWrite = null;
+                    return;
+                }
+                Map.Entry<Path, ReadOnlyAddressBook> next = iterator.next();
+                iterator.remove();
+                filePath = next.getKey();
+                addressBook = next.getValue();
+            }
+
+            try {
+                storage.saveAddressBook(addressBook, filePath);
+                saveFailure.set(null);
+            } catch (IOException e) {
+                logger.warning("Failed to save data to " + filePath + ": " + StringUtil.getDetails(e));
+                saveFailure.set(e);
+            } catch (RuntimeException e) {
+                logger.warning("Failed to save data to " + filePath + ": " + StringUtil.getDetails(e));
+                saveFailure.set(new IOException(e));
+            }
+        }
+    }
+}
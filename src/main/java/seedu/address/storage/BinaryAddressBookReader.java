@@ -0,0 +1,275 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryAddressBookWriter.MAGIC;
+import static seedu.address.storage.BinaryAddressBookWriter.VERSION;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_ATTENDANCE;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_TASK;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+import seedu.address.storage.ParallelModelConverter.ElementConsumer;
+
+/**
+ * Reads an address book from a file in the binary snapshot format written by {@link BinaryAddressBookWriter}.
+ * Each record is turned back into the json-adapted form of its element, so values are checked exactly as they are
+ * when reading a json file. Bytes at the end of a record beyond the fields known to this version are skipped.
+ * Snapshots of version 1 are read as well; their attendance records refer to members by name and are resolved by
+ * {@link LegacyAttendanceResolver}.
+ */
+class BinaryAddressBookReader {
+
+    public static final String MESSAGE_NOT_BINARY = "Data file is not a binary snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary snapshot version %d is not supported.";
+    public static final String MESSAGE_DAMAGED = "Binary snapshot is damaged.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary snapshot does not match its checksum.";
+
+    // The last version whose attendance records refer to members by name
+    private static final int LEGACY_ATTENDANCE_VERSION = 1;
+
+    private final DataInputStream in;
+    private final long maxContentSize;
+    private final boolean lazyAttendance;
+    private final List<Person> knownMembers;
+    private String[] strings;
+
+    private BinaryAddressBookReader(DataInputStream in, long maxContentSize, boolean lazyAttendance,
+            List<Person> knownMembers) {
+        this.in = in;
+        this.maxContentSize = maxContentSize;
+        this.lazyAttendance = lazyAttendance;
+        this.knownMembers = knownMembers;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a binary snapshot.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        try (DataInputStream in = new DataInputStream(CompressedFiles.openInputStream(filePath))) {
+            return in.readInt() == MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the address book stored in the binary snapshot at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not an intact binary snapshot.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, false);
+    }
+
+    /**
+     * Returns the address book stored in the binary snapshot at {@code filePath}.
+     *
+     * @param lazyAttendance true to leave the attendance records of each event unloaded until they are first needed.
+     * @throws IOException if the file cannot be read or is not an intact binary snapshot.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath, boolean lazyAttendance) throws IOException, IllegalValueException {
+        return read(filePath, lazyAttendance, List.of());
+    }
+
+    /**
+     * Returns the address book stored in the binary snapshot at {@code filePath}.
+     *
+     * @param lazyAttendance true to leave the attendance records of each event unloaded until they are first needed.
+     * @param knownMembers persons kept outside the file that legacy attendance records in it may refer to.
+     * @throws IOException if the file cannot be read or is not an intact binary snapshot.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath, boolean lazyAttendance, List<Person> knownMembers)
+            throws IOException, IllegalValueException {
+        CRC32 checksum = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                CompressedFiles.openInputStream(filePath), checksum))) {
+            return new BinaryAddressBookReader(in, CompressedFiles.getMaxContentSize(filePath), lazyAttendance,
+                    knownMembers).readAddressBook(checksum);
+        }
+    }
+
+    private AddressBook readAddressBook(CRC32 checksum) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        int version = readVarInt(in);
+        if (version < LEGACY_ATTENDANCE_VERSION || version > VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        strings = new String[readLength()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readLength()];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        readList(record -> {
+            Person person = readPerson(record).toModelType();
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        });
+        readList(record -> {
+            Event event = new JsonAdaptedEvent(readString(record), readString(record), readString(record),
+                    readString(record)).toModelType();
+            if (addressBook.hasEvent(event)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+            }
+            addressBook.addEvent(event);
+        });
+        readList(record -> {
+            Task task = new JsonAdaptedTask(readString(record), readString(record), record.readBoolean())
+                    .toModelType();
+            if (addressBook.hasTask(task)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
+            }
+            addressBook.addTask(task);
+        });
+        SerializedAttendanceCollector unloadedAttendances = new SerializedAttendanceCollector();
+        LegacyAttendanceResolver legacyAttendances = new LegacyAttendanceResolver();
+        Map<String, MemberId> memberIds = new HashMap<>();
+        ElementConsumer<JsonAdaptedAttendance> addAttendance = lazyAttendance
+                ? unloadedAttendances::add
+                : adaptedAttendance -> {
+                    Attendance attendance = adaptedAttendance.toModelType(memberIds);
+                    if (addressBook.hasAttendance(attendance)) {
+                        throw new IllegalValueException(MESSAGE_DUPLICATE_ATTENDANCE);
+                    }
+                    addressBook.addAttendance(attendance);
+                };
+        readList(record -> {
+            String eventId = readString(record);
+            String member = readString(record);
+            boolean hasAttended = record.readBoolean();
+            JsonAdaptedAttendance adaptedAttendance = version == LEGACY_ATTENDANCE_VERSION
+                    ? new JsonAdaptedAttendance(eventId, null, member, hasAttended)
+                    : new JsonAdaptedAttendance(eventId, member, hasAttended);
+            adaptedAttendance.checkValues();
+            if (adaptedAttendance.isLegacy()) {
+                legacyAttendances.add(adaptedAttendance);
+            } else {
+                addAttendance.accept(adaptedAttendance);
+            }
+        });
+        readList(record -> addressBook.setBudget(
+                new JsonAdaptedBudget(readString(record), readString(record), readString(record)).toModelType()));
+
+        int expectedChecksum = (int) checksum.getValue();
+        if (in.readInt() != expectedChecksum) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        if (in.read() != -1) {
+            throw new IOException(MESSAGE_DAMAGED);
+        }
+        List<Person> members = new ArrayList<>(addressBook.getPersonList());
+        members.addAll(knownMembers);
+        legacyAttendances.resolve(members, addAttendance);
+        unloadedAttendances.addTo(addressBook);
+        return addressBook;
+    }
+
+    private JsonAdaptedPerson readPerson(DataInputStream record) throws IOException {
+        String name = readString(record);
+        String year = readString(record);
+        String studentNumber = readString(record);
+        String email = readString(record);
+        String phone = readString(record);
+        String dietaryRequirements = readString(record);
+        String role = readString(record);
+        int tagCount = readVarInt(record);
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(readString(record)));
+        }
+        return new JsonAdaptedPerson(name, year, studentNumber, email, phone, dietaryRequirements, role, tags);
+    }
+
+    /**
+     * Reads a list of records, passing the content of each record to {@code consumer} as it is read.
+     */
+    private void readList(RecordConsumer consumer) throws IOException, IllegalValueException {
+        int count = readLength();
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[readLength()];
+            in.readFully(bytes);
+            consumer.accept(new DataInputStream(new ByteArrayInputStream(bytes)));
+        }
+    }
+
+    /**
+     * Returns the string that the next reference in {@code record} refers to, or null for a null reference.
+     */
+    private String readString(DataInputStream record) throws IOException {
+        int reference = readVarInt(record);
+        if (reference > strings.length) {
+            throw new IOException(MESSAGE_DAMAGED);
+        }
+        return reference == 0 ? null : strings[reference - 1];
+    }
+
+    /**
+     * Reads a count or length, which can never exceed the size of the (decompressed) content of an intact snapshot.
+     * Checking this keeps a damaged file from causing a huge allocation.
+     */
+    private int readLength() throws IOException {
+        int length = readVarInt(in);
+        if (length > maxContentSize) {
+            throw new IOException(MESSAGE_DAMAGED);
+        }
+        return length;
+    }
+
+    /**
+     * Reads an integer written by {@link BinaryAddressBookWriter#writeVarInt(java.io.OutputStream, int)}.
+     */
+    private static int readVarInt(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int nextByte = in.read();
+            if (nextByte == -1) {
+                throw new EOFException(MESSAGE_DAMAGED);
+            }
+            value |= (nextByte & 0x7F) << shift;
+            if ((nextByte & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException(MESSAGE_DAMAGED);
+                }
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_DAMAGED);
+    }
+
+    /**
+     * Accepts the content of one record as it is read.
+     */
+    @FunctionalInterface
+    private interface RecordConsumer {
+        void accept(DataInputStream record) throws IOException, IllegalValueException;
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+import seedu.address.model.CompressionMode;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * The snapshot is written by {@link BinaryAddressBookWriter}, and is saved and read back in the same crash-safe
+ * way as a json file, including falling back to the backup of the previous version.
+ * Json data files are read as well, so switching to this storage converts the data file on the next save.
+ */
+public class BinaryAddressBookStorage extends JsonAddressBookStorage {
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param lazyAttendance true to leave the attendance records of each event that is read unloaded until they
+     *     are first needed.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean lazyAttendance) {
+        this(filePath, lazyAttendance, CompressionMode.NONE, UserPrefs.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param lazyAttendance true to leave the attendance records of each event that is read unloaded until they
+     *     are first needed.
+     * @param compression the compression to save data files with, unless their extension names one.
+     * @param compressionLevel the level to compress at, from 0 (fastest) to 9 (smallest).
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean lazyAttendance, CompressionMode compression,
+            int compressionLevel) {
+        super(filePath, false, lazyAttendance, compression, compressionLevel);
+    }
+
+    @Override
+    protected void writeFile(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        BinaryAddressBookWriter.write(addressBook, out);
+    }
+}
@@ -0,0 +1,221 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.SerializedEventAttendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+
+/**
+ * Writes an address book to a file in the binary snapshot format, which is smaller and faster to read than json.
+ * <p>
+ * The file starts with {@link #MAGIC} and the format {@link #VERSION}, followed by a table of every distinct string
+ * in the address book. The persons, events, tasks, attendances and budget (a list of at most one) follow as lists
+ * of records. Each record is prefixed with its length in bytes and refers to its strings by their position in the
+ * table, so repeated values such as roles, years, tags, event IDs and member IDs are stored once. The file ends
+ * with the CRC32 checksum of everything before it.
+ * <p>
+ * Values are kept in the same text form as in the json format, so converting between the two is lossless. Counts,
+ * lengths and string references are written as variable-length integers holding 7 bits in each byte.
+ */
+class BinaryAddressBookWriter {
+
+    /** The first four bytes of every binary snapshot, "CHAB" in ASCII. */
+    public static final int MAGIC = 0x43484142;
+    /** Version 2 refers to the member of each attendance record by member ID, where version 1 used their name. */
+    public static final int VERSION = 2;
+
+    // Strings in the order they were first written, mapped to their position in the string table
+    private final Map<String, Integer> stringTable = new LinkedHashMap<>();
+    private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream record = new ByteArrayOutputStream();
+    private final DataOutputStream recordOut = new DataOutputStream(record);
+
+    private BinaryAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, replacing its content.
+     * The content is forced onto the storage device before this method returns.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        write(addressBook, FileUtil.openDurableOutputStream(filePath));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code target}, and then closes it.
+     * The checksum covers the snapshot itself, so it is the same whether or not {@code target} compresses it.
+     *
+     * @throws IOException if there was an error during writing to {@code target}.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream target) throws IOException {
+        try (OutputStream out = target) {
+            BinaryAddressBookWriter writer = new BinaryAddressBookWriter();
+            writer.writeList(addressBook.getPersonList(), writer::writePerson);
+            writer.writeList(addressBook.getEventList(), writer::writeEvent);
+            writer.writeList(addressBook.getTaskList(), writer::writeTask);
+            writer.writeAttendances(addressBook);
+            writer.writeList(addressBook.getBudget().stream().toList(), writer::writeBudget);
+            writer.writeTo(out);
+        }
+    }
+
+    /**
+     * Writes the header, the string table and then the records.
+     * This can only be done once every record has been encoded, because only then is every string known.
+     */
+    private void writeTo(OutputStream target) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(target, checksum))) {
+            out.writeInt(MAGIC);
+            writeVarInt(out, VERSION);
+            writeVarInt(out, stringTable.size());
+            for (String string : stringTable.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(out, bytes.length);
+                out.write(bytes);
+            }
+            records.writeTo(out);
+            out.writeInt((int) checksum.getValue());
+        }
+    }
+
+    private <T> void writeList(List<T> elements, RecordWriter<T> recordWriter) throws IOException {
+        writeVarInt(records, elements.size());
+        for (T element : elements) {
+            record.reset();
+            recordWriter.write(element);
+            endRecord();
+        }
+    }
+
+    /**
+     * Appends the record just written to {@link #record} to the records, prefixed with its length.
+     */
+    private void endRecord() throws IOException {
+        writeVarInt(records, record.size());
+        record.writeTo(records);
+    }
+
+    /**
+     * Writes the attendance records of {@code addressBook} as one list, including those that have not been loaded,
+     * without loading them.
+     */
+    private void writeAttendances(ReadOnlyAddressBook addressBook) throws IOException {
+        List<Attendance> loadedAttendances = addressBook.getLoadedAttendanceList();
+        List<SerializedEventAttendance> unloadedAttendances = addressBook.getUnloadedAttendanceList();
+        int count = loadedAttendances.size();
+        for (SerializedEventAttendance eventAttendance : unloadedAttendances) {
+            count += eventAttendance.size();
+        }
+
+        writeVarInt(records, count);
+        for (Attendance attendance : loadedAttendances) {
+            record.reset();
+            writeAttendance(attendance.getEventId().value, attendance.getMemberId().value, attendance.hasAttended());
+            endRecord();
+        }
+        for (SerializedEventAttendance eventAttendance : unloadedAttendances) {
+            for (int i = 0; i < eventAttendance.size(); i++) {
+                record.reset();
+                writeAttendance(eventAttendance.getEventId().value, eventAttendance.getMemberId(i),
+                        eventAttendance.hasAttended(i));
+                endRecord();
+            }
+        }
+    }
+
+    private void writePerson(Person person) throws IOException {
+        writeString(person.getName().fullName);
+        writeString(person.getYear().toString());
+        writeString(person.getStudentNumber().value);
+        writeString(person.getEmail().value);
+        writeString(person.getPhone().value);
+        writeString(person.getDietaryRequirements().value);
+        writeString(person.getRole().value);
+        writeVarInt(recordOut, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeString(tag.tagName);
+        }
+    }
+
+    private void writeEvent(Event event) throws IOException {
+        writeString(event.getEventId().value);
+        writeString(event.getDate().toString());
+        writeString(event.getDescription());
+        writeString(event.getExpense().toString());
+    }
+
+    private void writeTask(Task task) throws IOException {
+        writeString(task.getTitle());
+        writeString(task.getDeadline() != null
+                ? task.getDeadline().format(DateTimeFormatter.ofPattern(Task.DATE_TIME_FORMAT))
+                : null);
+        recordOut.writeBoolean(task.isDone());
+    }
+
+    private void writeAttendance(String eventId, String memberId, boolean hasAttended) throws IOException {
+        writeString(eventId);
+        writeString(memberId);
+        recordOut.writeBoolean(hasAttended);
+    }
+
+    private void writeBudget(Budget budget) throws IOException {
+        writeString(budget.getAmount().toString());
+        writeString(budget.getStartDate().toString());
+        writeString(budget.getEndDate().toString());
+    }
+
+    /**
+     * Writes a reference to {@code string} in the string table, adding it to the table if it is new.
+     * References start from 1, leaving 0 for null.
+     */
+    private void writeString(String string) throws IOException {
+        if (string == null) {
+            writeVarInt(recordOut, 0);
+            return;
+        }
+        int position = stringTable.computeIfAbsent(string, unused -> stringTable.size());
+        writeVarInt(recordOut, position + 1);
+    }
+
+    /**
+     * Writes the non-negative {@code value} in as few bytes as it needs, 7 bits in each byte, lowest bits first.
+     * The top bit of each byte is set if another byte follows.
+     */
+    static void writeVarInt(OutputStream out, int value) throws IOException {
+        assert value >= 0;
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+
+    /**
+     * Writes one element of a list as the content of a record.
+     */
+    @FunctionalInterface
+    private interface RecordWriter<T> {
+        void write(T element) throws IOException;
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.CompressionMode;
+
+/**
+ * Opens data files that may be compressed in the gzip or zlib (deflate) format.
+ * <p>
+ * Compressed files are recognised by their first two bytes when read, so a data file is read the same way whatever
+ * compression it was saved with. Data is compressed and decompressed as it streams through, so neither the
+ * compressed nor the uncompressed content of a file is ever held in memory in full.
+ */
+class CompressedFiles {
+
+    /** Data files with this extension are always compressed in the gzip format. */
+    public static final String GZIP_EXTENSION = ".gz";
+    /** Data files with this extension are always compressed in the zlib (deflate) format. */
+    public static final String DEFLATE_EXTENSION = ".zz";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int GZIP_MAGIC = 0x8b1f;
+    // Deflate cannot expand data by a larger factor than this, so it bounds the content size of a compressed file
+    private static final long MAX_DEFLATE_RATIO = 1032;
+
+    private CompressedFiles() {} // prevents instantiation
+
+    /**
+     * Returns the compression that the data file at {@code filePath} is saved with.
+     * This is the compression named by the extension of the file, if it has one of the extensions above, and
+     * {@code preferred} otherwise.
+     */
+    public static CompressionMode getCompression(Path filePath, CompressionMode preferred) {
+        String fileName = filePath.getFileName().toString();
+        if (fileName.endsWith(GZIP_EXTENSION)) {
+            return CompressionMode.GZIP;
+        }
+        if (fileName.endsWith(DEFLATE_EXTENSION)) {
+            return CompressionMode.DEFLATE;
+        }
+        return preferred;
+    }
+
+    /**
+     * Opens a stream that replaces the content of the file at {@code filePath} with everything written to it,
+     * compressed with {@code compression} at {@code level} (0 to 9). Closing the stream forces the content onto
+     * the storage device, as {@link FileUtil#openDurableOutputStream(Path)} does.
+     */
+    public static OutputStream openOutputStream(Path filePath, CompressionMode compression, int level)
+            throws IOException {
+        OutputStream out = FileUtil.openDurableOutputStream(filePath);
+        try {
+            switch (compression) {
+            case GZIP:
+                return new LeveledGzipOutputStream(out, level);
+            case DEFLATE:
+                return new LeveledDeflaterOutputStream(out, level);
+            default:
+                return out;
+            }
+        } catch (IOException | RuntimeException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a buffered stream that reads the content of the file at {@code filePath}, decompressing it if it is
+     * compressed. The caller is responsible for closing the stream.
+     */
+    public static InputStream openInputStream(Path filePath) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE);
+        try {
+            switch (detectCompression(in)) {
+            case GZIP:
+                return new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+            case DEFLATE:
+                return new BufferedInputStream(new InflaterInputStream(in), BUFFER_SIZE);
+            default:
+                return in;
+            }
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the largest number of bytes that the content of the file at {@code filePath} can take up once
+     * decompressed.
+     */
+    public static long getMaxContentSize(Path filePath) throws IOException {
+        long fileSize = Files.size(filePath);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            if (detectCompression(in) == CompressionMode.NONE) {
+                return fileSize;
+            }
+        }
+        return fileSize > Long.MAX_VALUE / MAX_DEFLATE_RATIO ? Long.MAX_VALUE : fileSize * MAX_DEFLATE_RATIO;
+    }
+
+    /**
+     * Returns the compression of the stream {@code in} from its first two bytes, without consuming them.
+     * A json or binary data file can never start like a compressed one: json starts with a brace or white space,
+     * and a binary snapshot starts with {@link BinaryAddressBookWriter#MAGIC}.
+     */
+    private static CompressionMode detectCompression(InputStream in) throws IOException {
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        if (first == -1 || second == -1) {
+            return CompressionMode.NONE;
+        }
+        if ((second << 8 | first) == GZIP_MAGIC) {
+            return CompressionMode.GZIP;
+        }
+        // a zlib header names the deflate method in its low four bits and is a multiple of 31 as a whole
+        if ((first & 0x0f) == Deflater.DEFLATED && (first << 8 | second) % 31 == 0) {
+            return CompressionMode.DEFLATE;
+        }
+        return CompressionMode.NONE;
+    }
+
+    /**
+     * A gzip stream that compresses at a given level rather than the default one.
+     */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+    }
+
+    /**
+     * A zlib stream that compresses at a given level, and releases its deflater once closed.
+     */
+    private static class LeveledDeflaterOutputStream extends DeflaterOutputStream {
+        LeveledDeflaterOutputStream(OutputStream out, int level) {
+            super(out, new Deflater(level), BUFFER_SIZE);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                def.end();
+            }
+        }
+    }
+}
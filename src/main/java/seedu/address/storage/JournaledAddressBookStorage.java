@@ -0,0 +1,379 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.CompressionMode;
+import seedu.address.model.ListChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+
+/**
+ * A class to access AddressBook data stored as a json file on the hard disk, together with a journal of the changes
+ * made since that file was last written.
+ * Saving appends only the changes since the previous save to the journal. The json file is rewritten, and the
+ * journal emptied, once the journal holds {@value #COMPACTION_THRESHOLD} records or when {@link #flush()} is called.
+ * <p>
+ * The changes to append are the {@link ListChange}s made to each list since the one it had when last saved, so a
+ * save takes time proportional to the changes rather than to the address book, and neither copies nor compares the
+ * lists. The json file is rewritten instead when those changes are no longer known, such as after the whole
+ * address book was replaced, or when anything else than an {@code AddressBook} is saved.
+ * <p>
+ * Each journal line holds the CRC32 checksum of a record followed by the record in json. Every record also holds
+ * the checksum of the json file it was written on top of, so records left behind by an interrupted rewrite of the
+ * json file are recognised as stale and ignored. Appends are forced onto the storage device before a save returns.
+ * If the journal is damaged, the records before the first damaged line are replayed and the rest are ignored with a
+ * warning; the next save then rewrites the json file instead of appending after the damage.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int COMPACTION_THRESHOLD = 200;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+
+    // State of the data at filePath, used to work out what to append on the next save
+    private ReadOnlyAddressBook lastSaved; // null if the journal must be discarded by rewriting the json file
+    private ListChange<Person> savedPersonChange;
+    private ListChange<Event> savedEventChange;
+    private ListChange<Attendance> savedAttendanceChange;
+    private ListChange<Task> savedTaskChange;
+    private Budget savedBudget;
+    private long baseChecksum;
+    private int recordCount;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} for the json file at {@code filePath}.
+     */
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} for the json file at {@code filePath}.
+     *
+     * @param isCompact true to write the json file on a single line instead of indenting it.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, CompressionMode.NONE, UserPrefs.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} for the json file at {@code filePath}.
+     * Only the json file is compressed; the journal is always appended to as plain text.
+     *
+     * @param isCompact true to write the json file on a single line instead of indenting it.
+     * @param compression the compression to save the json file with, unless its extension names one.
+     * @param compressionLevel the level to compress at, from 0 (fastest) to 9 (smallest).
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isCompact, CompressionMode compression,
+            int compressionLevel) {
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath, isCompact, false, compression, compressionLevel);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept for the json file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Reads the json file at {@code filePath} and replays its journal on top of it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalPath = getJournalFilePath(filePath);
+        try {
+            long checksum = checksumOf(filePath);
+            List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+            boolean isJournalIntact = !Files.exists(journalPath) || readJournal(journalPath, records);
+            List<JsonAdaptedJournalRecord> applicable = records.stream()
+                    .filter(record -> record.getBase() == checksum)
+                    .toList();
+            if (applicable.size() < records.size()) {
+                logger.info("Ignoring " + (records.size() - applicable.size()) + " journal records in " + journalPath
+                        + " that were already written to " + filePath);
+            }
+
+            Optional<ReadOnlyAddressBook> result = applicable.isEmpty()
+                    ? snapshot
+                    : Optional.of(replay(snapshot.orElseGet(AddressBook::new), applicable));
+            if (filePath.equals(this.filePath)) {
+                // Appending to a journal that holds lines which were not replayed would hide the new records
+                boolean canAppend = result.isPresent() && isJournalIntact && applicable.size() == records.size();
+                markSaved(canAppend ? result.get() : null);
+                baseChecksum = checksum;
+                recordCount = applicable.size();
+            }
+            return result;
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from journal " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Appends the changes made to {@code addressBook} since the last save to the journal.
+     * Data saved to any other location than the data file of this storage is written as a plain json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        Optional<List<JsonAdaptedJournalRecord>> changes = lastSaved == null || !(addressBook instanceof AddressBook)
+                ? Optional.empty()
+                : getChangesSinceSaved((AddressBook) addressBook);
+        if (changes.isEmpty()) {
+            compact(addressBook);
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = changes.get();
+        if (records.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            String json = JsonUtil.toCompactJsonString(record);
+            lines.append(Long.toHexString(checksumOf(json.getBytes(StandardCharsets.UTF_8))))
+                    .append(' ').append(json).append('\n');
+        }
+        Path journalPath = getJournalFilePath(filePath);
+        try {
+            FileUtil.createParentDirsOfFile(journalPath);
+            FileUtil.appendDurably(journalPath, lines.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // whatever part of the records was written, the next save rewrites the json file instead of appending
+            markSaved(null);
+            throw e;
+        }
+
+        markSaved(addressBook);
+        recordCount += records.size();
+        if (recordCount >= COMPACTION_THRESHOLD) {
+            compact(lastSaved);
+        }
+    }
+
+    /**
+     * Rewrites the json file with every change in the journal, and empties the journal.
+     * The address book last saved is written as it is now, so any change made to it since is written too.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (lastSaved != null && recordCount > 0) {
+            compact(lastSaved);
+        }
+    }
+
+    /**
+     * Rewrites the json file with {@code addressBook} and deletes the journal.
+     * If this is interrupted after the json file is written, the journal is left behind but is ignored when read,
+     * because its records were written on top of the previous json file.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Compacting journal into " + filePath);
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        baseChecksum = checksumOf(filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        markSaved(addressBook);
+        recordCount = 0;
+    }
+
+    /**
+     * Remembers {@code addressBook}, as it is now, as the data at {@code filePath}, or that the data there is not
+     * known if {@code addressBook} is null. Only the latest change of each list is remembered, not the lists.
+     */
+    private void markSaved(ReadOnlyAddressBook addressBook) {
+        lastSaved = addressBook;
+        AddressBook changeSource = addressBook instanceof AddressBook ? (AddressBook) addressBook : null;
+        savedPersonChange = changeSource == null ? null : changeSource.getLastPersonChange();
+        savedEventChange = changeSource == null ? null : changeSource.getLastEventChange();
+        savedAttendanceChange = changeSource == null ? null : changeSource.getLastAttendanceChange();
+        savedTaskChange = changeSource == null ? null : changeSource.getLastTaskChange();
+        savedBudget = addressBook == null ? null : addressBook.getBudget().orElse(null);
+    }
+
+    /**
+     * Returns the records of the changes made to {@code addressBook} since the last save, one for each change of a
+     * list, or an empty {@code Optional} if they are not known.
+     */
+    private Optional<List<JsonAdaptedJournalRecord>> getChangesSinceSaved(AddressBook addressBook) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        boolean isKnown = addRecords(addressBook.getLastPersonChange(), savedPersonChange,
+                JsonAdaptedJournalRecord::ofPersons, records)
+                && addRecords(addressBook.getLastEventChange(), savedEventChange,
+                        JsonAdaptedJournalRecord::ofEvents, records)
+                && addRecords(addressBook.getLastAttendanceChange(), savedAttendanceChange,
+                        JsonAdaptedJournalRecord::ofAttendances, records)
+                && addRecords(addressBook.getLastTaskChange(), savedTaskChange,
+                        JsonAdaptedJournalRecord::ofTasks, records);
+        if (!isKnown) {
+            return Optional.empty();
+        }
+        Budget currentBudget = addressBook.getBudget().orElse(null);
+        if (!Objects.equals(savedBudget, currentBudget)) {
+            records.add(JsonAdaptedJournalRecord.ofBudget(baseChecksum, currentBudget));
+        }
+        return Optional.of(records);
+    }
+
+    /**
+     * Adds a record to {@code records} for each change made to a list after {@code savedChange}, up to
+     * {@code lastChange}.
+     *
+     * @return false if those changes are not known.
+     */
+    private <T> boolean addRecords(ListChange<T> lastChange, ListChange<T> savedChange, RecordFactory<T> factory,
+            List<JsonAdaptedJournalRecord> records) {
+        Optional<List<ListChange<T>>> changes = lastChange.getChangesSince(savedChange);
+        if (changes.isEmpty()) {
+            return false;
+        }
+        for (ListChange<T> change : changes.get()) {
+            records.add(factory.create(baseChecksum, change.getIndex(), change.getRemovedCount(),
+                    change.getInsertedElements()));
+        }
+        return true;
+    }
+
+    /**
+     * Creates the journal record of a change to a list.
+     */
+    @FunctionalInterface
+    private interface RecordFactory<T> {
+        JsonAdaptedJournalRecord create(long base, int index, int removeCount, List<T> inserted);
+    }
+
+    /**
+     * Adds the valid records in the journal at {@code journalPath} to {@code records}, in the order they were
+     * written, up to the first line that cannot be read. That line and every line after it are ignored, since each
+     * record only applies on top of the ones before it.
+     *
+     * @return false if any lines were ignored.
+     */
+    private static boolean readJournal(Path journalPath, List<JsonAdaptedJournalRecord> records)
+            throws IOException {
+        String[] lines = new String(Files.readAllBytes(journalPath), StandardCharsets.UTF_8).split("\n", -1);
+        for (int i = 0; i < lines.length; i++) {
+            // the text after the last line break is never a complete record
+            boolean isComplete = i < lines.length - 1;
+            Optional<JsonAdaptedJournalRecord> record = isComplete ? parseLine(lines[i]) : Optional.empty();
+            if (record.isPresent()) {
+                records.add(record.get());
+            } else if (!lines[i].isEmpty()) {
+                logger.warning("Ignoring journal records from damaged line " + (i + 1) + " of " + journalPath
+                        + " onwards");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Optional<JsonAdaptedJournalRecord> parseLine(String line) {
+        int separator = line.indexOf(' ');
+        if (separator == -1) {
+            return Optional.empty();
+        }
+        String json = line.substring(separator + 1);
+        try {
+            long checksum = Long.parseLong(line.substring(0, separator), 16);
+            if (checksum != checksumOf(json.getBytes(StandardCharsets.UTF_8))) {
+                return Optional.empty();
+            }
+            return Optional.of(JsonUtil.fromJsonString(json, JsonAdaptedJournalRecord.class));
+        } catch (NumberFormatException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static AddressBook replay(ReadOnlyAddressBook snapshot, List<JsonAdaptedJournalRecord> records)
+            throws IllegalValueException {
+        List<Person> persons = new ArrayList<>(snapshot.getPersonList());
+        List<Event> events = new ArrayList<>(snapshot.getEventList());
+        List<Attendance> attendances = new ArrayList<>(snapshot.getAttendanceList());
+        List<Task> tasks = new ArrayList<>(snapshot.getTaskList());
+        Budget budget = snapshot.getBudget().orElse(null);
+        try {
+            for (JsonAdaptedJournalRecord record : records) {
+                budget = record.applyTo(persons, events, attendances, tasks, budget);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            addressBook.setEvents(events);
+            addressBook.setAttendances(attendances);
+            addressBook.setTasks(tasks);
+            if (budget != null) {
+                addressBook.setBudget(budget);
+            }
+            return addressBook;
+        } catch (RuntimeException e) {
+            // duplicates or malformed values that the model rejects
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        return Files.exists(file) ? checksumOf(Files.readAllBytes(file)) : 0;
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+}
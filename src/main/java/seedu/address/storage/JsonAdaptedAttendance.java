@@ -1,20 +1,33 @@
 package seedu.address.storage;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.event.EventId;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.StudentNumber;
 
 /**
  * Jackson-friendly version of {@link Attendance}.
+ * <p>
+ * Records refer to their member by student number. Records written by earlier versions refer to their member by
+ * name instead; these legacy records are read as they are and must be resolved to a member with
+ * {@link #withMemberId(MemberId)} before they are converted to the model type.
  */
 class JsonAdaptedAttendance {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Attendance's %s field is missing!";
+    public static final String MESSAGE_UNRESOLVED_MEMBER = "Attendance of %s does not refer to a member by ID!";
 
     private final String eventId;
+    private final String studentNumber;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final String memberName;
     private final Boolean hasAttended;
 
@@ -23,28 +36,72 @@ class JsonAdaptedAttendance {
      */
     @JsonCreator
     public JsonAdaptedAttendance(@JsonProperty("eventId") String eventId,
+            @JsonProperty("studentNumber") String studentNumber,
             @JsonProperty("memberName") String memberName,
             @JsonProperty("hasAttended") Boolean hasAttended) {
         this.eventId = eventId;
+        this.studentNumber = studentNumber;
         this.memberName = memberName;
         this.hasAttended = hasAttended;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedAttendance} that refers to its member by student number.
+     */
+    public JsonAdaptedAttendance(String eventId, String studentNumber, Boolean hasAttended) {
+        this(eventId, studentNumber, null, hasAttended);
+    }
+
     /**
      * Converts a given {@code Attendance} into this class for Jackson use.
      */
     public JsonAdaptedAttendance(Attendance source) {
-        this.eventId = source.getEventId().value;
-        this.memberName = source.getMemberName().fullName;
-        this.hasAttended = source.hasAttended();
+        this(source.getEventId().value, source.getMemberId().value, source.hasAttended());
+    }
+
+    String getEventId() {
+        return eventId;
     }
 
     /**
-     * Converts this Jackson-friendly adapted attendance object into the model's {@code Attendance} object.
+     * Returns the member ID of the record, which must not be a legacy record.
+     */
+    String getMemberId() {
+        return MemberId.canonicalise(studentNumber);
+    }
+
+    /**
+     * Returns the member name of a legacy record.
+     */
+    String getMemberName() {
+        return memberName;
+    }
+
+    boolean hasAttended() {
+        return hasAttended;
+    }
+
+    /**
+     * Returns true if this record was written by an earlier version and refers to its member by name only.
+     */
+    boolean isLegacy() {
+        return studentNumber == null && memberName != null;
+    }
+
+    /**
+     * Returns a copy of this record that refers to the member {@code memberId}.
+     */
+    JsonAdaptedAttendance withMemberId(MemberId memberId) {
+        return new JsonAdaptedAttendance(eventId, memberId.value, hasAttended);
+    }
+
+    /**
+     * Checks that the fields of this adapted attendance object hold valid values, without converting it.
+     * A legacy record is checked against the constraints of the member name it holds.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted attendance.
      */
-    public Attendance toModelType() throws IllegalValueException {
+    public void checkValues() throws IllegalValueException {
         if (eventId == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     EventId.class.getSimpleName()));
@@ -52,21 +109,48 @@ class JsonAdaptedAttendance {
         if (!EventId.isValidEventId(eventId)) {
             throw new IllegalValueException(EventId.MESSAGE_CONSTRAINTS);
         }
-        final EventId modelEventId = new EventId(eventId);
 
-        if (memberName == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    Name.class.getSimpleName()));
-        }
-        if (!Name.isValidName(memberName)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        if (isLegacy()) {
+            if (!Name.isValidName(memberName)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+        } else {
+            if (studentNumber == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                        StudentNumber.class.getSimpleName()));
+            }
+            if (!MemberId.isValidMemberId(studentNumber)) {
+                throw new IllegalValueException(MemberId.MESSAGE_CONSTRAINTS);
+            }
         }
-        final Name modelName = new Name(memberName);
 
         if (hasAttended == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "hasAttended"));
         }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted attendance object into the model's {@code Attendance} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted attendance, or if
+     *     this is a legacy record.
+     */
+    public Attendance toModelType() throws IllegalValueException {
+        return toModelType(new HashMap<>());
+    }
 
-        return new Attendance(modelEventId, modelName, hasAttended);
+    /**
+     * Similar to {@link #toModelType()}, but takes the member ID from {@code memberIds}, adding it if needed, so that
+     * the records of a member that are read together share one copy of the ID.
+     *
+     * @param memberIds the member IDs read so far, by value.
+     */
+    public Attendance toModelType(Map<String, MemberId> memberIds) throws IllegalValueException {
+        checkValues();
+        if (isLegacy()) {
+            throw new IllegalValueException(String.format(MESSAGE_UNRESOLVED_MEMBER, memberName));
+        }
+        return new Attendance(new EventId(eventId), memberIds.computeIfAbsent(getMemberId(), MemberId::new),
+                hasAttended);
     }
 }
@@ -78,7 +78,15 @@ class JsonAdaptedEvent {
             throw new IllegalValueException(Event.DESCRIPTION_CONSTRAINTS);
         }
         final String modelDescription = description;
-        final Money modelExpense = (expense == null) ? Money.zero() : Money.parse(expense);
+        final Money modelExpense;
+        try {
+            modelExpense = (expense == null) ? Money.zero() : Money.parse(expense);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Event.EXPENSE_CONSTRAINTS);
+        }
+        if (!Event.isValidExpense(modelExpense)) {
+            throw new IllegalValueException(Event.EXPENSE_CONSTRAINTS);
+        }
 
         return new Event(modelEventId, modelDate, modelDescription, modelExpense);
     }
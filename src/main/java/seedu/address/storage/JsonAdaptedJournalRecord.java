@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+
+/**
+ * Jackson-friendly version of one change recorded in the journal of a {@link JournaledAddressBookStorage}.
+ * A record either replaces a range of one of the lists with new elements, or replaces the budget.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String PERSONS = "persons";
+    public static final String EVENTS = "events";
+    public static final String ATTENDANCES = "attendances";
+    public static final String TASKS = "tasks";
+    public static final String BUDGET = "budget";
+
+    public static final String MESSAGE_INVALID_TARGET = "Journal record has an unknown target: %s";
+    public static final String MESSAGE_INVALID_RANGE = "Journal record does not fit the %s list.";
+
+    private final long base;
+    private final String target;
+    private final int index;
+    private final int removeCount;
+    private final List<JsonAdaptedPerson> persons;
+    private final List<JsonAdaptedEvent> events;
+    private final List<JsonAdaptedAttendance> attendances;
+    private final List<JsonAdaptedTask> tasks;
+    private final JsonAdaptedBudget budget;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("base") long base, @JsonProperty("target") String target,
+            @JsonProperty("index") int index, @JsonProperty("removeCount") int removeCount,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("events") List<JsonAdaptedEvent> events,
+            @JsonProperty("attendances") List<JsonAdaptedAttendance> attendances,
+            @JsonProperty("tasks") List<JsonAdaptedTask> tasks,
+            @JsonProperty("budget") JsonAdaptedBudget budget) {
+        this.base = base;
+        this.target = target;
+        this.index = index;
+        this.removeCount = removeCount;
+        this.persons = persons;
+        this.events = events;
+        this.attendances = attendances;
+        this.tasks = tasks;
+        this.budget = budget;
+    }
+
+    /**
+     * Returns a record that replaces the {@code removeCount} persons starting at {@code index} with {@code inserted}.
+     */
+    public static JsonAdaptedJournalRecord ofPersons(long base, int index, int removeCount, List<Person> inserted) {
+        return new JsonAdaptedJournalRecord(base, PERSONS, index, removeCount,
+                inserted.stream().map(JsonAdaptedPerson::new).toList(), null, null, null, null);
+    }
+
+    /**
+     * Returns a record that replaces the {@code removeCount} events starting at {@code index} with {@code inserted}.
+     */
+    public static JsonAdaptedJournalRecord ofEvents(long base, int index, int removeCount, List<Event> inserted) {
+        return new JsonAdaptedJournalRecord(base, EVENTS, index, removeCount,
+                null, inserted.stream().map(JsonAdaptedEvent::new).toList(), null, null, null);
+    }
+
+    /**
+     * Returns a record that replaces the {@code removeCount} attendances starting at {@code index} with
+     * {@code inserted}.
+     */
+    public static JsonAdaptedJournalRecord ofAttendances(long base, int index, int removeCount,
+            List<Attendance> inserted) {
+        return new JsonAdaptedJournalRecord(base, ATTENDANCES, index, removeCount,
+                null, null, inserted.stream().map(JsonAdaptedAttendance::new).toList(), null, null);
+    }
+
+    /**
+     * Returns a record that replaces the {@code removeCount} tasks starting at {@code index} with {@code inserted}.
+     */
+    public static JsonAdaptedJournalRecord ofTasks(long base, int index, int removeCount, List<Task> inserted) {
+        return new JsonAdaptedJournalRecord(base, TASKS, index, removeCount,
+                null, null, null, inserted.stream().map(JsonAdaptedTask::new).toList(), null);
+    }
+
+    /**
+     * Returns a record that replaces the budget with {@code budget}, which may be null to clear it.
+     */
+    public static JsonAdaptedJournalRecord ofBudget(long base, Budget budget) {
+        return new JsonAdaptedJournalRecord(base, BUDGET, 0, 0, null, null, null, null,
+                budget == null ? null : new JsonAdaptedBudget(budget));
+    }
+
+    /**
+     * Returns the checksum of the data file this record was written on top of.
+     */
+    public long getBase() {
+        return base;
+    }
+
+    /**
+     * Applies this record to the given lists and returns the resulting budget.
+     *
+     * @param currentBudget the budget before this record is applied, may be null.
+     * @throws IllegalValueException if the record is invalid or does not fit the lists.
+     */
+    public Budget applyTo(List<Person> personList, List<Event> eventList, List<Attendance> attendanceList,
+            List<Task> taskList, Budget currentBudget) throws IllegalValueException {
+        if (target == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TARGET, "null"));
+        }
+
+        switch (target) {
+        case PERSONS:
+            List<Person> insertedPersons = new ArrayList<>();
+            for (JsonAdaptedPerson person : nonNull(persons)) {
+                insertedPersons.add(person.toModelType());
+            }
+            splice(personList, insertedPersons);
+            return currentBudget;
+        case EVENTS:
+            List<Event> insertedEvents = new ArrayList<>();
+            for (JsonAdaptedEvent event : nonNull(events)) {
+                insertedEvents.add(event.toModelType());
+            }
+            splice(eventList, insertedEvents);
+            return currentBudget;
+        case ATTENDANCES:
+            List<Attendance> insertedAttendances = new ArrayList<>();
+            for (JsonAdaptedAttendance attendance : nonNull(attendances)) {
+                insertedAttendances.add(resolveMember(attendance, personList).toModelType());
+            }
+            splice(attendanceList, insertedAttendances);
+            return currentBudget;
+        case TASKS:
+            List<Task> insertedTasks = new ArrayList<>();
+            for (JsonAdaptedTask task : nonNull(tasks)) {
+                insertedTasks.add(task.toModelType());
+            }
+            splice(taskList, insertedTasks);
+            return currentBudget;
+        case BUDGET:
+            return budget == null ? null : budget.toModelType();
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TARGET, target));
+        }
+    }
+
+    /**
+     * Returns {@code attendance} with its member resolved against {@code personList} if it is a legacy record,
+     * which refers to its member by name. Positions in the journal count every record, so a record that cannot be
+     * resolved is an error rather than dropped, as it is in a data file.
+     */
+    private static JsonAdaptedAttendance resolveMember(JsonAdaptedAttendance attendance, List<Person> personList)
+            throws IllegalValueException {
+        if (!attendance.isLegacy()) {
+            return attendance;
+        }
+        attendance.checkValues();
+        return attendance.withMemberId(LegacyAttendanceResolver.resolveMemberId(personList, attendance));
+    }
+
+    private <T> void splice(List<T> list, List<T> inserted) throws IllegalValueException {
+        if (index < 0 || removeCount < 0 || index + removeCount > list.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RANGE, target));
+        }
+        List<T> range = list.subList(index, index + removeCount);
+        range.clear();
+        range.addAll(inserted);
+    }
+
+    private static <T> List<T> nonNull(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+}
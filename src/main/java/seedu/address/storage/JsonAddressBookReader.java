@@ -0,0 +1,313 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_ATTENDANCE;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_TASK;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.person.MemberId;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ParallelModelConverter.AdaptedElementConverter;
+import seedu.address.storage.ParallelModelConverter.ElementConsumer;
+
+/**
+ * Reads an address book from a json file one element at a time.
+ * Elements are converted and added to the {@code AddressBook} in chunks while the rest of the file is read, so
+ * neither the whole file nor a {@link JsonSerializableAddressBook} of it is ever held in memory.
+ * Accepts the same format that {@link JsonSerializableAddressBook} is written in; unknown fields are skipped.
+ * If the file holds the checksum written by {@link JsonAddressBookWriter}, the bytes it covers are checked against
+ * it as they stream through, so the file is only read once. Files without a checksum, such as those written by
+ * earlier versions, are read without this check.
+ * <p>
+ * Attendance records can be read without being loaded, in which case they are checked and grouped by event but
+ * only turned into {@code Attendance} objects when the address book first needs them. Legacy records, which refer
+ * to their member by name, are resolved by {@link LegacyAttendanceResolver} once the whole file has been read.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Data file does not contain an address book object.";
+    public static final String MESSAGE_NOT_A_LIST = "Field %s of the address book is not a list.";
+    public static final String MESSAGE_INVALID_CHECKSUM = "Data file checksum is not a hexadecimal number.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Data file does not match its checksum.";
+
+    private static final int MAX_PENDING_CHUNKS = Math.max(2, 2 * ForkJoinPool.getCommonPoolParallelism());
+
+    private JsonAddressBookReader() {} // prevents instantiation
+
+    /**
+     * Returns the address book stored in the json file at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not valid json in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, false);
+    }
+
+    /**
+     * Returns the address book stored in the json file at {@code filePath}.
+     *
+     * @param lazyAttendance true to leave the attendance records of each event unloaded until they are first needed.
+     * @throws IOException if the file cannot be read or is not valid json in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath, boolean lazyAttendance) throws IOException, IllegalValueException {
+        return read(filePath, lazyAttendance, List.of());
+    }
+
+    /**
+     * Returns the address book stored in the json file at {@code filePath}.
+     *
+     * @param lazyAttendance true to leave the attendance records of each event unloaded until they are first needed.
+     * @param knownMembers persons kept outside the file that legacy attendance records in it may refer to.
+     * @throws IOException if the file cannot be read or is not valid json in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath, boolean lazyAttendance, List<Person> knownMembers)
+            throws IOException, IllegalValueException {
+        ChecksummingInputStream in = new ChecksummingInputStream(CompressedFiles.openInputStream(filePath));
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            SerializedAttendanceCollector unloadedAttendances = new SerializedAttendanceCollector();
+            LegacyAttendanceResolver legacyAttendances = new LegacyAttendanceResolver();
+            Map<String, MemberId> memberIds = new HashMap<>();
+            ElementConsumer<JsonAdaptedAttendance> addAttendance = lazyAttendance
+                    ? unloadedAttendances::add
+                    : adaptedAttendance -> {
+                        Attendance attendance = adaptedAttendance.toModelType(memberIds);
+                        if (addressBook.hasAttendance(attendance)) {
+                            throw new IllegalValueException(MESSAGE_DUPLICATE_ATTENDANCE);
+                        }
+                        addressBook.addAttendance(attendance);
+                    };
+            long valueEnd = parser.getCurrentLocation().getByteOffset();
+            boolean hasChecksum = false;
+            long expectedChecksum = 0;
+            long actualChecksum = 0;
+            in.checksumUpTo(valueEnd);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case "persons":
+                    readList(parser, in, fieldName, JsonAdaptedPerson.class, JsonAdaptedPerson::toModelType, person -> {
+                        if (addressBook.hasPerson(person)) {
+                            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+                        }
+                        addressBook.addPerson(person);
+                    });
+                    break;
+                case "events":
+                    readList(parser, in, fieldName, JsonAdaptedEvent.class, JsonAdaptedEvent::toModelType, event -> {
+                        if (addressBook.hasEvent(event)) {
+                            throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+                        }
+                        addressBook.addEvent(event);
+                    });
+                    break;
+                case "tasks":
+                    readList(parser, in, fieldName, JsonAdaptedTask.class, JsonAdaptedTask::toModelType, task -> {
+                        if (addressBook.hasTask(task)) {
+                            throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
+                        }
+                        addressBook.addTask(task);
+                    });
+                    break;
+                case "attendances":
+                    readList(parser, in, fieldName, JsonAdaptedAttendance.class, attendance -> {
+                        attendance.checkValues();
+                        return attendance;
+                    }, attendance -> {
+                        if (attendance.isLegacy()) {
+                            legacyAttendances.add(attendance);
+                        } else {
+                            addAttendance.accept(attendance);
+                        }
+                    });
+                    break;
+                case "budget":
+                    if (parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+                        addressBook.setBudget(JsonUtil.readValue(parser, JsonAdaptedBudget.class).toModelType());
+                    }
+                    break;
+                case JsonAddressBookWriter.CHECKSUM_FIELD:
+                    // the checksum covers everything up to the end of the value before it
+                    hasChecksum = true;
+                    actualChecksum = in.getChecksum();
+                    expectedChecksum = parseChecksum(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+                }
+                valueEnd = parser.getCurrentLocation().getByteOffset();
+                if (!hasChecksum) {
+                    in.checksumUpTo(valueEnd);
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+            if (hasChecksum && actualChecksum != expectedChecksum) {
+                throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+            List<Person> members = new ArrayList<>(addressBook.getPersonList());
+            members.addAll(knownMembers);
+            legacyAttendances.resolve(members, addAttendance);
+            unloadedAttendances.addTo(addressBook);
+            return addressBook;
+        }
+    }
+
+    private static long parseChecksum(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.VALUE_STRING) {
+            throw new JsonParseException(parser, MESSAGE_INVALID_CHECKSUM);
+        }
+        try {
+            return Long.parseLong(parser.getText(), 16);
+        } catch (NumberFormatException e) {
+            throw new JsonParseException(parser, MESSAGE_INVALID_CHECKSUM);
+        }
+    }
+
+    /**
+     * Reads the list that {@code parser} is positioned at, passing each element to {@code consumer} in list order.
+     * Elements are converted to their model type in chunks on the common fork/join pool while the rest of the list
+     * is being read. Errors are reported as if each element had been converted and passed on as soon as it was read.
+     * A null list is treated as empty.
+     */
+    private static <A, T> void readList(JsonParser parser, ChecksummingInputStream in, String fieldName,
+            Class<A> elementClass, AdaptedElementConverter<A, T> converter, ElementConsumer<T> consumer)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_A_LIST, fieldName));
+        }
+
+        Deque<ParallelModelConverter<A, T>> conversions = new ArrayDeque<>();
+        List<A> chunk = new ArrayList<>();
+        try {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                chunk.add(JsonUtil.readValue(parser, elementClass));
+                // keeps the bytes held back for the checksum to about one element
+                in.checksumUpTo(parser.getCurrentLocation().getByteOffset());
+                if (chunk.size() < ParallelModelConverter.CHUNK_SIZE) {
+                    continue;
+                }
+                conversions.add(ParallelModelConverter.start(chunk, converter));
+                chunk = new ArrayList<>();
+                // limits how much of the list is held in memory at once
+                if (conversions.size() > MAX_PENDING_CHUNKS) {
+                    conversions.remove().forEachConverted(consumer);
+                }
+            }
+        } catch (IOException e) {
+            // an error in an element read before this point is reported first
+            conversions.add(ParallelModelConverter.start(chunk, converter));
+            for (ParallelModelConverter<A, T> conversion : conversions) {
+                conversion.forEachConverted(consumer);
+            }
+            throw e;
+        }
+        conversions.add(ParallelModelConverter.start(chunk, converter));
+        for (ParallelModelConverter<A, T> conversion : conversions) {
+            conversion.forEachConverted(consumer);
+        }
+    }
+
+    /**
+     * Passes bytes through unchanged, working out the CRC32 checksum of those up to a position it is told about.
+     * The parser reads ahead of the values it returns, so bytes are only added to the checksum once the parser
+     * has reported reaching past them, and are held back until then.
+     */
+    private static class ChecksummingInputStream extends FilterInputStream {
+        private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+
+        private final CRC32 checksum = new CRC32();
+        private byte[] heldBack = new byte[INITIAL_BUFFER_SIZE];
+        private int heldBackLength;
+        private long checkedLength; // number of bytes added to the checksum
+
+        private ChecksummingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b != -1) {
+                holdBack(new byte[] {(byte) b}, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = in.read(buffer, offset, length);
+            if (read > 0) {
+                holdBack(buffer, offset, read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // skipped bytes must still pass through the checksum
+            byte[] buffer = new byte[(int) Math.min(n, INITIAL_BUFFER_SIZE)];
+            int read = read(buffer, 0, buffer.length);
+            return Math.max(read, 0);
+        }
+
+        /**
+         * Adds the bytes before {@code position} that are not yet in the checksum to it.
+         * {@code position} must not be past the bytes read so far.
+         */
+        void checksumUpTo(long position) {
+            int count = (int) Math.max(0, position - checkedLength);
+            assert count <= heldBackLength;
+            checksum.update(heldBack, 0, count);
+            System.arraycopy(heldBack, count, heldBack, 0, heldBackLength - count);
+            heldBackLength -= count;
+            checkedLength += count;
+        }
+
+        long getChecksum() {
+            return checksum.getValue();
+        }
+
+        private void holdBack(byte[] bytes, int offset, int length) {
+            if (heldBackLength + length > heldBack.length) {
+                heldBack = Arrays.copyOf(heldBack, Math.max(heldBackLength + length, 2 * heldBack.length));
+            }
+            System.arraycopy(bytes, offset, heldBack, heldBackLength, length);
+            heldBackLength += length;
+        }
+    }
+}
@@ -3,34 +3,114 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.CompressionMode;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * <p>
+ * Saving writes a sibling temporary file, forces it onto the disk and only then moves it over the data file in a
+ * single atomic move, so a crash never leaves a half-written or missing data file behind. Before that move, the data
+ * file being replaced is hard-linked (or copied, where links are not supported) to its backup, which is read
+ * instead whenever the data file is missing, damaged or does not match its checksum. A data file that this storage
+ * found damaged when reading it is not kept as the backup, so the backup it fell back to survives the next save.
+ * <p>
+ * Data files in the binary format of {@link BinaryAddressBookStorage} are read as well, so switching between the
+ * two storages converts the data file on the next save.
+ * <p>
+ * Data files ending in {@value CompressedFiles#GZIP_EXTENSION} or {@value CompressedFiles#DEFLATE_EXTENSION} are
+ * saved compressed in that format, and any other data file is saved with the compression given to this storage.
+ * Compressed data files are read whatever the compression given, so changing it takes effect on the next save.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final boolean lazyAttendance;
+    private final CompressionMode compression;
+    private final int compressionLevel;
+    // Data files that this storage could not read, by absolute path
+    private final Set<Path> damagedFiles = ConcurrentHashMap.newKeySet();
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isCompact true to write the json on a single line instead of indenting it.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isCompact true to write the json on a single line instead of indenting it.
+     * @param lazyAttendance true to leave the attendance records of each event that is read unloaded until they
+     *     are first needed.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean lazyAttendance) {
+        this(filePath, isCompact, lazyAttendance, CompressionMode.NONE, UserPrefs.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isCompact true to write the json on a single line instead of indenting it.
+     * @param lazyAttendance true to leave the attendance records of each event that is read unloaded until they
+     *     are first needed.
+     * @param compression the compression to save data files with, unless their extension names one.
+     * @param compressionLevel the level to compress at, from 0 (fastest) to 9 (smallest).
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean lazyAttendance,
+            CompressionMode compression, int compressionLevel) {
+        requireNonNull(compression);
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.lazyAttendance = lazyAttendance;
+        this.compression = compression;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the path of the backup kept of the previous version of the json file at {@code filePath}.
+     */
+    public static Path getBackupFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    private static Path getTempFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -38,21 +118,68 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is streamed into the address book one element at a time by {@link JsonAddressBookReader}.
+     * Falls back to the backup of the previous version of the file if the file cannot be read.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * @throws DataLoadingException if loading the data from both the file and its backup failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, List.of());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, for a file that may hold legacy attendance records of persons that
+     * are kept in another file.
+     *
+     * @param knownMembers persons kept outside the file that legacy attendance records in it may refer to.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, List<Person> knownMembers)
+            throws DataLoadingException {
         requireNonNull(filePath);
+        requireNonNull(knownMembers);
+
+        Path backupPath = getBackupFilePath(filePath);
+        if (!Files.exists(filePath)) {
+            if (!Files.exists(backupPath)) {
+                return Optional.empty();
+            }
+            // the data file was deleted, or an earlier version was interrupted while it had moved the file aside
+            logger.warning("Data file " + filePath + " not found, reading its backup " + backupPath);
+            return Optional.of(readFile(backupPath, knownMembers));
+        }
+        logger.info("Data file " + filePath + " found.");
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
+        try {
+            AddressBook addressBook = readFile(filePath, knownMembers);
+            damagedFiles.remove(filePath.toAbsolutePath());
+            return Optional.of(addressBook);
+        } catch (DataLoadingException e) {
+            damagedFiles.add(filePath.toAbsolutePath());
+            if (!Files.exists(backupPath)) {
+                throw e;
+            }
+            logger.warning("Reading the backup " + backupPath + " instead of " + filePath);
+            try {
+                return Optional.of(readFile(backupPath, knownMembers));
+            } catch (DataLoadingException backupException) {
+                e.addSuppressed(backupException);
+                throw e;
+            }
         }
+    }
 
+    private AddressBook readFile(Path filePath, List<Person> knownMembers) throws DataLoadingException {
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            long startTime = System.nanoTime();
+            AddressBook addressBook = BinaryAddressBookReader.isBinaryFile(filePath)
+                    ? BinaryAddressBookReader.read(filePath, lazyAttendance, knownMembers)
+                    : JsonAddressBookReader.read(filePath, lazyAttendance, knownMembers);
+            logger.fine("Read " + filePath + " in " + (System.nanoTime() - startTime) / 1_000_000 + " ms");
+            return addressBook;
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +193,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The existing file at {@code filePath}, if any, becomes the backup once the new file is in place, unless it
+     * was found damaged when last read.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +202,48 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = getTempFilePath(filePath);
+        try {
+            long startTime = System.nanoTime();
+            CompressionMode fileCompression = CompressedFiles.getCompression(filePath, compression);
+            writeFile(addressBook, CompressedFiles.openOutputStream(tempPath, fileCompression, compressionLevel));
+            logger.fine("Wrote " + tempPath + " in " + (System.nanoTime() - startTime) / 1_000_000 + " ms");
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempPath);
+            throw e;
+        }
+        if (damagedFiles.remove(filePath.toAbsolutePath())) {
+            logger.warning("Replacing damaged data file " + filePath + " without keeping it as the backup");
+        } else if (Files.exists(filePath)) {
+            keepAsBackup(filePath);
+        }
+        FileUtil.replaceFile(tempPath, filePath);
+    }
+
+    /**
+     * Makes the backup of the data file at {@code filePath} hold the current content of that file, which stays in
+     * place. The data file is only ever replaced by moving a new file over it, never written in place, so a hard
+     * link to it keeps the current content after it is replaced.
+     */
+    private static void keepAsBackup(Path filePath) throws IOException {
+        Path backupPath = getBackupFilePath(filePath);
+        Path newBackupPath = getTempFilePath(backupPath);
+        Files.deleteIfExists(newBackupPath);
+        try {
+            Files.createLink(newBackupPath, filePath);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(filePath, newBackupPath);
+        }
+        FileUtil.replaceFile(newBackupPath, backupPath);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, which compresses it if needed, and then closes {@code out}.
+     * Closing {@code out} forces the new file onto the storage device.
+     */
+    protected void writeFile(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        JsonAddressBookWriter.write(addressBook, out, isCompact);
     }
 
 }
@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.SerializedEventAttendance;
+import seedu.address.model.budget.Budget;
+
+/**
+ * Writes an address book to a json file one element at a time.
+ * Each element is adapted and written as soon as it is reached, so neither a {@link JsonSerializableAddressBook}
+ * of the whole address book nor the whole json text is ever held in memory.
+ * Produces the same format that {@link JsonSerializableAddressBook} is written in, followed by a
+ * {@value #CHECKSUM_FIELD} field holding the CRC32 checksum of every byte written before it. The checksum is
+ * worked out as the bytes are written, so it costs no extra pass over the data.
+ */
+class JsonAddressBookWriter {
+
+    public static final String CHECKSUM_FIELD = "checksum";
+
+    private JsonAddressBookWriter() {} // prevents instantiation
+
+    /**
+     * Writes {@code addressBook} to the json file at {@code filePath}, replacing its content.
+     * The content is forced onto the storage device before this method returns.
+     *
+     * @param isCompact true to write the json on a single line instead of indenting it.
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact) throws IOException {
+        write(addressBook, FileUtil.openDurableOutputStream(filePath), isCompact);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code target}, and then closes it.
+     * The checksum covers the json text itself, so it is the same whether or not {@code target} compresses it.
+     *
+     * @param isCompact true to write the json on a single line instead of indenting it.
+     * @throws IOException if there was an error during writing to {@code target}.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream target, boolean isCompact)
+            throws IOException {
+        CRC32 checksum = new CRC32();
+        try (OutputStream out = new CheckedOutputStream(target, checksum);
+                JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+            generator.writeStartObject();
+            writeList(generator, "persons", addressBook.getPersonList(), JsonAdaptedPerson::new);
+            writeList(generator, "events", addressBook.getEventList(), JsonAdaptedEvent::new);
+            writeList(generator, "tasks", addressBook.getTaskList(), JsonAdaptedTask::new);
+            writeAttendances(generator, addressBook);
+
+            generator.writeFieldName("budget");
+            Optional<Budget> budget = addressBook.getBudget();
+            if (budget.isPresent()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedBudget(budget.get()));
+            } else {
+                generator.writeNull();
+            }
+
+            // everything up to the end of the budget has now passed through the checksum
+            generator.flush();
+            generator.writeStringField(CHECKSUM_FIELD, Long.toHexString(checksum.getValue()));
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes the attendance records of {@code addressBook}, including those that have not been loaded, without
+     * loading them.
+     */
+    private static void writeAttendances(JsonGenerator generator, ReadOnlyAddressBook addressBook)
+            throws IOException {
+        generator.writeArrayFieldStart("attendances");
+        for (Attendance attendance : addressBook.getLoadedAttendanceList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedAttendance(attendance));
+        }
+        for (SerializedEventAttendance eventAttendance : addressBook.getUnloadedAttendanceList()) {
+            for (int i = 0; i < eventAttendance.size(); i++) {
+                JsonUtil.writeValue(generator, new JsonAdaptedAttendance(eventAttendance.getEventId().value,
+                        eventAttendance.getMemberId(i), eventAttendance.hasAttended(i)));
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    private static <T, A> void writeList(JsonGenerator generator, String fieldName, List<T> elements,
+            Function<T, A> adapter) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (T element : elements) {
+            JsonUtil.writeValue(generator, adapter.apply(element));
+        }
+        generator.writeEndArray();
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -13,8 +15,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.budget.Budget;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Person;
 import seedu.address.model.task.Task;
+import seedu.address.storage.ParallelModelConverter.ElementConsumer;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -82,39 +86,61 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The four lists are converted in parallel by {@link ParallelModelConverter}, then added to the address book in
+     * file order, so the error reported is always the first one in the file. Legacy attendance records, which refer
+     * to their member by name, are resolved against the persons by {@link LegacyAttendanceResolver} last.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        ParallelModelConverter<JsonAdaptedPerson, Person> personConversion =
+                ParallelModelConverter.start(persons, JsonAdaptedPerson::toModelType);
+        ParallelModelConverter<JsonAdaptedEvent, Event> eventConversion =
+                ParallelModelConverter.start(events, JsonAdaptedEvent::toModelType);
+        ParallelModelConverter<JsonAdaptedTask, Task> taskConversion =
+                ParallelModelConverter.start(tasks, JsonAdaptedTask::toModelType);
+        ParallelModelConverter<JsonAdaptedAttendance, JsonAdaptedAttendance> attendanceConversion =
+                ParallelModelConverter.start(attendances, attendance -> {
+                    attendance.checkValues();
+                    return attendance;
+                });
+
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+        personConversion.forEachConverted(person -> {
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             addressBook.addPerson(person);
-        }
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
+        });
+        eventConversion.forEachConverted(event -> {
             if (addressBook.hasEvent(event)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
             }
             addressBook.addEvent(event);
-        }
-        for (JsonAdaptedTask jsonAdaptedTask : tasks) {
-            Task task = jsonAdaptedTask.toModelType();
+        });
+        taskConversion.forEachConverted(task -> {
             if (addressBook.hasTask(task)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
             }
             addressBook.addTask(task);
-        }
-        for (JsonAdaptedAttendance jsonAdaptedAttendance : attendances) {
-            Attendance attendance = jsonAdaptedAttendance.toModelType();
+        });
+        LegacyAttendanceResolver legacyAttendances = new LegacyAttendanceResolver();
+        Map<String, MemberId> memberIds = new HashMap<>();
+        ElementConsumer<JsonAdaptedAttendance> addAttendance = adaptedAttendance -> {
+            Attendance attendance = adaptedAttendance.toModelType(memberIds);
             if (addressBook.hasAttendance(attendance)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_ATTENDANCE);
             }
             addressBook.addAttendance(attendance);
-        }
+        };
+        attendanceConversion.forEachConverted(attendance -> {
+            if (attendance.isLegacy()) {
+                legacyAttendances.add(attendance);
+            } else {
+                addAttendance.accept(attendance);
+            }
+        });
+        legacyAttendances.resolve(addressBook.getPersonList(), addAttendance);
         if (budget != null) {
             addressBook.setBudget(budget.toModelType());
         }
@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.MemberId;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ParallelModelConverter.ElementConsumer;
+
+/**
+ * Resolves the legacy attendance records of a data file, which refer to their member by name, to the member IDs
+ * that attendance records now refer to members by.
+ * <p>
+ * Legacy records are held back until every person of the file has been read, as a name can only be resolved once
+ * its member is known. A name is only resolved if exactly one person has it, as for the attendance commands. Any
+ * other record fails the whole file, naming the records, rather than being dropped or given to a guessed member.
+ */
+class LegacyAttendanceResolver {
+
+    public static final String MESSAGE_UNRESOLVED_RECORDS =
+            "The member of %1$d attendance record(s) cannot be found by name: %2$s";
+    public static final String MESSAGE_UNKNOWN_MEMBER = "%1$s at event %2$s (no member has that name)";
+    public static final String MESSAGE_AMBIGUOUS_MEMBER =
+            "%1$s at event %2$s (several members have that name, with student numbers %3$s)";
+
+    private static final Logger logger = LogsCenter.getLogger(LegacyAttendanceResolver.class);
+
+    private final List<JsonAdaptedAttendance> legacyAttendances = new ArrayList<>();
+
+    /**
+     * Holds back {@code attendance}, a legacy record whose values have been checked, until it is resolved.
+     */
+    public void add(JsonAdaptedAttendance attendance) {
+        assert attendance.isLegacy();
+        legacyAttendances.add(attendance);
+    }
+
+    /**
+     * Resolves the records held back against {@code persons}, and passes each record to {@code consumer} in the
+     * order the records were added.
+     *
+     * @throws IllegalValueException if the name of any record is not the name of exactly one of {@code persons}.
+     */
+    public void resolve(List<Person> persons, ElementConsumer<JsonAdaptedAttendance> consumer)
+            throws IllegalValueException {
+        if (legacyAttendances.isEmpty()) {
+            return;
+        }
+        Map<String, List<MemberId>> memberIdsByName = new HashMap<>();
+        for (Person person : persons) {
+            memberIdsByName.computeIfAbsent(person.getName().fullName, name -> new ArrayList<>())
+                    .add(person.getMemberId());
+        }
+
+        List<String> unresolvedRecords = new ArrayList<>();
+        for (JsonAdaptedAttendance attendance : legacyAttendances) {
+            List<MemberId> memberIds = memberIdsByName.getOrDefault(attendance.getMemberName(), List.of());
+            if (memberIds.size() != 1) {
+                unresolvedRecords.add(describeUnresolved(attendance, memberIds));
+            }
+        }
+        if (!unresolvedRecords.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_UNRESOLVED_RECORDS, unresolvedRecords.size(),
+                    String.join("; ", unresolvedRecords)));
+        }
+
+        for (JsonAdaptedAttendance attendance : legacyAttendances) {
+            consumer.accept(attendance.withMemberId(memberIdsByName.get(attendance.getMemberName()).get(0)));
+        }
+        logger.info("Resolved " + legacyAttendances.size() + " attendance records by member name");
+        legacyAttendances.clear();
+    }
+
+    /**
+     * Returns the member ID of the only one of {@code persons} with the member name of the legacy record
+     * {@code attendance}.
+     *
+     * @throws IllegalValueException if none or several of {@code persons} have that name.
+     */
+    public static MemberId resolveMemberId(List<Person> persons, JsonAdaptedAttendance attendance)
+            throws IllegalValueException {
+        List<MemberId> memberIds = persons.stream()
+                .filter(person -> person.getName().fullName.equals(attendance.getMemberName()))
+                .map(Person::getMemberId)
+                .collect(Collectors.toList());
+        if (memberIds.size() != 1) {
+            throw new IllegalValueException(String.format(MESSAGE_UNRESOLVED_RECORDS, 1,
+                    describeUnresolved(attendance, memberIds)));
+        }
+        return memberIds.get(0);
+    }
+
+    private static String describeUnresolved(JsonAdaptedAttendance attendance, List<MemberId> memberIds) {
+        if (memberIds.isEmpty()) {
+            return String.format(MESSAGE_UNKNOWN_MEMBER, attendance.getMemberName(), attendance.getEventId());
+        }
+        return String.format(MESSAGE_AMBIGUOUS_MEMBER, attendance.getMemberName(), attendance.getEventId(),
+                memberIds.stream().map(memberId -> memberId.value).collect(Collectors.joining(", ")));
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts a list of json-adapted elements into model elements on the common fork/join pool.
+ * Lists longer than {@value #CHUNK_SIZE} elements are split in halves that are converted in parallel.
+ * <p>
+ * Errors are reported exactly as if the list had been converted one element at a time: the converted elements
+ * before the first element that failed are handed over in order, and only then is that failure thrown. This keeps
+ * the error reported for a damaged file the same from run to run, however the work was split.
+ *
+ * @param <A> the json-adapted type of the elements
+ * @param <T> the model type of the elements
+ */
+class ParallelModelConverter<A, T> extends RecursiveTask<ParallelModelConverter.Converted<T>> {
+
+    /** Lists of at most this many elements are converted on a single thread. */
+    static final int CHUNK_SIZE = 512;
+
+    private final List<A> adaptedElements;
+    private final AdaptedElementConverter<A, T> converter;
+
+    private ParallelModelConverter(List<A> adaptedElements, AdaptedElementConverter<A, T> converter) {
+        this.adaptedElements = adaptedElements;
+        this.converter = converter;
+    }
+
+    /**
+     * Starts converting {@code adaptedElements} in the background, and returns the conversion in progress.
+     * {@code adaptedElements} must not be changed until the conversion is finished.
+     */
+    static <A, T> ParallelModelConverter<A, T> start(List<A> adaptedElements,
+            AdaptedElementConverter<A, T> converter) {
+        ParallelModelConverter<A, T> conversion = new ParallelModelConverter<>(adaptedElements, converter);
+        ForkJoinPool.commonPool().execute(conversion);
+        return conversion;
+    }
+
+    /**
+     * Waits for the conversion to finish, then passes the converted elements to {@code consumer} in list order.
+     *
+     * @throws IllegalValueException if {@code consumer} rejects an element, or, after every element before it has
+     *     been passed to {@code consumer}, if an element could not be converted.
+     */
+    void forEachConverted(ElementConsumer<T> consumer) throws IllegalValueException {
+        Converted<T> converted = join();
+        for (T element : converted.elements) {
+            consumer.accept(element);
+        }
+        if (converted.error instanceof IllegalValueException) {
+            throw (IllegalValueException) converted.error;
+        }
+        if (converted.error != null) {
+            throw (RuntimeException) converted.error;
+        }
+    }
+
+    @Override
+    protected Converted<T> compute() {
+        int size = adaptedElements.size();
+        if (size <= CHUNK_SIZE) {
+            return convertInOrder();
+        }
+
+        int middle = size / 2;
+        ParallelModelConverter<A, T> right = new ParallelModelConverter<>(
+                adaptedElements.subList(middle, size), converter);
+        right.fork();
+        Converted<T> leftResult = new ParallelModelConverter<>(adaptedElements.subList(0, middle), converter)
+                .compute();
+        Converted<T> rightResult = right.join();
+        if (leftResult.error != null) {
+            return leftResult;
+        }
+        leftResult.elements.addAll(rightResult.elements);
+        return new Converted<>(leftResult.elements, rightResult.error);
+    }
+
+    private Converted<T> convertInOrder() {
+        List<T> elements = new ArrayList<>(adaptedElements.size());
+        for (A adaptedElement : adaptedElements) {
+            try {
+                elements.add(converter.toModelType(adaptedElement));
+            } catch (IllegalValueException | RuntimeException e) {
+                return new Converted<>(elements, e);
+            }
+        }
+        return new Converted<>(elements, null);
+    }
+
+    /**
+     * The converted elements before the first element that failed, and the reason it failed, if any did.
+     */
+    static class Converted<T> {
+        private final List<T> elements;
+        private final Exception error; // nullable
+
+        private Converted(List<T> elements, Exception error) {
+            this.elements = elements;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Converts one json-adapted element into its model type.
+     */
+    @FunctionalInterface
+    interface AdaptedElementConverter<A, T> {
+        T toModelType(A adaptedElement) throws IllegalValueException;
+    }
+
+    /**
+     * Accepts one converted element.
+     */
+    @FunctionalInterface
+    interface ElementConsumer<T> {
+        void accept(T element) throws IllegalValueException;
+    }
+}
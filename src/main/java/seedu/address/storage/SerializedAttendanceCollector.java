@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_ATTENDANCE;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.SerializedEventAttendance;
+import seedu.address.model.event.EventId;
+
+/**
+ * Collects the attendance records read from a data file into one {@link SerializedEventAttendance} for each event,
+ * so that they can be added to an address book without being loaded.
+ * Records are checked as strictly as when they are loaded straight away, so a data file is rejected for exactly the
+ * same reasons either way.
+ */
+class SerializedAttendanceCollector {
+
+    // Records of each event in the order they were read, by event ID
+    private final Map<String, EventRecords> recordsByEvent = new LinkedHashMap<>();
+
+    /**
+     * Adds the record {@code attendance}, whose values must have been checked with
+     * {@link JsonAdaptedAttendance#checkValues()}, and which must not be a legacy record.
+     *
+     * @throws IllegalValueException if a record of the same member has already been added for the same event.
+     */
+    public void add(JsonAdaptedAttendance attendance) throws IllegalValueException {
+        EventRecords records = recordsByEvent.computeIfAbsent(attendance.getEventId(), unused -> new EventRecords());
+        if (!records.memberIds.add(attendance.getMemberId())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ATTENDANCE);
+        }
+        if (attendance.hasAttended()) {
+            records.attended.set(records.memberIds.size() - 1);
+        }
+    }
+
+    /**
+     * Adds every record collected to {@code addressBook} without loading them.
+     */
+    public void addTo(AddressBook addressBook) {
+        recordsByEvent.forEach((eventId, records) -> addressBook.addUnloadedAttendance(new SerializedEventAttendance(
+                new EventId(eventId), new ArrayList<>(records.memberIds), records.attended)));
+    }
+
+    /**
+     * The records of one event.
+     */
+    private static class EventRecords {
+        private final Set<String> memberIds = new LinkedHashSet<>();
+        private final BitSet attended = new BitSet();
+    }
+}
@@ -0,0 +1,401 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookVersion;
+import seedu.address.model.CompressionMode;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.SerializedEventAttendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+
+/**
+ * A class to access AddressBook data stored as one json file per collection, in a directory next to the data file.
+ * Each save only rewrites the files of the collections that changed since the last save, and the files are read in
+ * parallel. Every file is an address book json file holding a single collection, and is saved and read in the same
+ * crash-safe way as by {@link JsonAddressBookStorage}. The attendance file is read once the persons file has been, as
+ * attendance records written by earlier versions refer to members by name and are resolved against the persons.
+ * <p>
+ * While the directory holds none of these files, the data file itself is read instead, so switching to this storage
+ * moves the data into the directory on the next save. The data file is rewritten with the latest data saved to the
+ * directory when {@link #flush()} is called, so that it is up to date for the other storages once the app exits.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path directoryPath;
+    private final JsonAddressBookStorage fileStorage;
+    // Kept for the life of this storage, as each remembers which of its files were found damaged
+    private final Map<Shard, JsonAddressBookStorage> shardStorages = new EnumMap<>(Shard.class);
+
+    // Version of the data in the directory, or null if unknown, in which case every file is written on the next save
+    private AddressBookVersion savedVersion;
+    private AddressBook lastSnapshot; // latest data saved to the directory, or null if unknown
+    private boolean isDataFileStale; // true if the data file is older than the data in the directory
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} for the data file at {@code filePath}.
+     *
+     * @param isCompact true to write the json files on a single line instead of indenting them.
+     */
+    public ShardedAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} for the data file at {@code filePath}.
+     *
+     * @param isCompact true to write the json files on a single line instead of indenting them.
+     * @param lazyAttendance true to leave the attendance records of each event that is read unloaded until they
+     *     are first needed.
+     */
+    public ShardedAddressBookStorage(Path filePath, boolean isCompact, boolean lazyAttendance) {
+        this(filePath, isCompact, lazyAttendance, CompressionMode.NONE, UserPrefs.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} for the data file at {@code filePath}.
+     *
+     * @param isCompact true to write the json files on a single line instead of indenting them.
+     * @param lazyAttendance true to leave the attendance records of each event that is read unloaded until they
+     *     are first needed.
+     * @param compression the compression to save the collection files with. The data file itself is saved with the
+     *     compression its extension names, if any.
+     * @param compressionLevel the level to compress at, from 0 (fastest) to 9 (smallest).
+     */
+    public ShardedAddressBookStorage(Path filePath, boolean isCompact, boolean lazyAttendance,
+            CompressionMode compression, int compressionLevel) {
+        this.filePath = filePath;
+        this.directoryPath = getShardDirectoryPath(filePath);
+        this.fileStorage = new JsonAddressBookStorage(filePath, isCompact, lazyAttendance, compression,
+                compressionLevel);
+        for (Shard shard : Shard.values()) {
+            shardStorages.put(shard, new JsonAddressBookStorage(getShardFilePath(shard), isCompact, lazyAttendance,
+                    compression, compressionLevel));
+        }
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory that the collections of the data file at {@code filePath} are kept in.
+     * This is the data file's path without its extension, such as {@code data/addressbook} for
+     * {@code data/addressbook.json}. The extension of a compressed data file is dropped as well, so
+     * {@code data/addressbook.json.gz} also keeps its collections in {@code data/addressbook}.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        for (String extension : List.of(CompressedFiles.GZIP_EXTENSION, CompressedFiles.DEFLATE_EXTENSION)) {
+            if (fileName.endsWith(extension)) {
+                fileName = fileName.substring(0, fileName.length() - extension.length());
+            }
+        }
+        int extensionStart = fileName.lastIndexOf('.');
+        return filePath.resolveSibling(extensionStart > 0
+                ? fileName.substring(0, extensionStart)
+                : fileName + "_data");
+    }
+
+    /**
+     * Returns the path of the file holding {@code shard} in the directory of this storage.
+     */
+    Path getShardFilePath(Shard shard) {
+        return directoryPath.resolve(shard.fileName);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Reads every collection file in the directory of the data file at {@code filePath} in parallel.
+     * Any other path is read as a single json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return fileStorage.readAddressBook(filePath);
+        }
+        boolean hasShards = false;
+        for (Shard shard : Shard.values()) {
+            Path shardPath = getShardFilePath(shard);
+            hasShards |= Files.exists(shardPath)
+                    || Files.exists(JsonAddressBookStorage.getBackupFilePath(shardPath));
+        }
+        if (!hasShards) {
+            logger.info("No collection files found in " + directoryPath + ", reading " + filePath);
+            savedVersion = null;
+            lastSnapshot = null;
+            isDataFileStale = false;
+            return fileStorage.readAddressBook(filePath);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Shard.values().length);
+        try {
+            Map<Shard, Future<Optional<ReadOnlyAddressBook>>> results = new EnumMap<>(Shard.class);
+            for (Shard shard : Shard.values()) {
+                JsonAddressBookStorage shardStorage = shardStorages.get(shard);
+                Callable<Optional<ReadOnlyAddressBook>> read = shard == Shard.ATTENDANCES
+                        ? () -> shardStorage.readAddressBook(getShardFilePath(shard),
+                                getPersons(results.get(Shard.PERSONS)))
+                        : shardStorage::readAddressBook;
+                results.put(shard, executor.submit(read));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            for (Shard shard : Shard.values()) {
+                Optional<ReadOnlyAddressBook> shardData = getResult(results.get(shard));
+                if (shardData.isPresent()) {
+                    shard.copy(shardData.get(), addressBook);
+                }
+            }
+            savedVersion = addressBook.getVersion();
+            // the app may have stopped without rewriting the data file after the last save to the directory
+            isDataFileStale = isAnyShardNewerThanDataFile();
+            lastSnapshot = isDataFileStale ? addressBook.snapshot(null) : null;
+            return Optional.of(addressBook);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean isAnyShardNewerThanDataFile() {
+        try {
+            if (!Files.exists(filePath)) {
+                return true;
+            }
+            FileTime dataFileTime = Files.getLastModifiedTime(filePath);
+            for (Shard shard : Shard.values()) {
+                Path shardPath = getShardFilePath(shard);
+                if (Files.exists(shardPath) && Files.getLastModifiedTime(shardPath).compareTo(dataFileTime) > 0) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private static List<Person> getPersons(Future<Optional<ReadOnlyAddressBook>> result)
+            throws DataLoadingException {
+        return getResult(result).map(addressBook -> List.copyOf(addressBook.getPersonList())).orElse(List.of());
+    }
+
+    private static Optional<ReadOnlyAddressBook> getResult(Future<Optional<ReadOnlyAddressBook>> result)
+            throws DataLoadingException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Rewrites the files of the collections in {@code addressBook} that changed since the last save.
+     * Data saved to any other location than the data file of this storage is written as a single json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            fileStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        // Only an AddressBook knows the versions of its collections; anything else is written in full
+        AddressBookVersion version = addressBook instanceof AddressBook
+                ? ((AddressBook) addressBook).getVersion()
+                : null;
+        boolean isChanged = false;
+        for (Shard shard : Shard.values()) {
+            if (version != null && savedVersion != null && !shard.isChanged(savedVersion, version)) {
+                continue;
+            }
+            logger.fine("Writing " + shard.fileName + " to " + directoryPath);
+            isChanged = true;
+            shardStorages.get(shard).saveAddressBook(new ShardView(addressBook, shard));
+        }
+        if (!isChanged) {
+            return;
+        }
+        savedVersion = version;
+        lastSnapshot = addressBook instanceof AddressBook
+                ? ((AddressBook) addressBook).snapshot(lastSnapshot)
+                : new AddressBook(addressBook);
+        isDataFileStale = true;
+    }
+
+    /**
+     * Rewrites the data file with the latest data saved to the directory, if it is not up to date yet.
+     * This keeps the data file readable by the other storages, which do not read the directory.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (!isDataFileStale || lastSnapshot == null) {
+            return;
+        }
+        logger.info("Writing the latest data in " + directoryPath + " to " + filePath);
+        fileStorage.saveAddressBook(lastSnapshot);
+        isDataFileStale = false;
+    }
+
+    /**
+     * A collection of the address book that is kept in a file of its own.
+     */
+    enum Shard {
+        PERSONS("persons.json"),
+        EVENTS("events.json"),
+        TASKS("tasks.json"),
+        ATTENDANCES("attendances.json"),
+        BUDGET("budget.json");
+
+        private final String fileName;
+
+        Shard(String fileName) {
+            this.fileName = fileName;
+        }
+
+        /**
+         * Returns true if this collection differs between the two versions of the same address book.
+         */
+        boolean isChanged(AddressBookVersion previous, AddressBookVersion current) {
+            switch (this) {
+            case PERSONS:
+                return previous.getPersonListVersion() != current.getPersonListVersion();
+            case EVENTS:
+                return previous.getEventListVersion() != current.getEventListVersion();
+            case TASKS:
+                return previous.getTaskListVersion() != current.getTaskListVersion();
+            case ATTENDANCES:
+                return previous.getAttendanceListVersion() != current.getAttendanceListVersion();
+            default:
+                return !Objects.equals(previous.getBudget(), current.getBudget());
+            }
+        }
+
+        /**
+         * Copies this collection of {@code source} into {@code target}.
+         */
+        void copy(ReadOnlyAddressBook source, AddressBook target) {
+            switch (this) {
+            case PERSONS:
+                target.setPersons(source.getPersonList());
+                break;
+            case EVENTS:
+                target.setEvents(source.getEventList());
+                break;
+            case TASKS:
+                target.setTasks(source.getTaskList());
+                break;
+            case ATTENDANCES:
+                target.setAttendances(source.getLoadedAttendanceList());
+                source.getUnloadedAttendanceList().forEach(target::addUnloadedAttendance);
+                break;
+            default:
+                source.getBudget().ifPresent(target::setBudget);
+                break;
+            }
+        }
+    }
+
+    /**
+     * A view of an address book that only holds one of its collections.
+     */
+    private static class ShardView implements ReadOnlyAddressBook {
+        private final ReadOnlyAddressBook source;
+        private final Shard shard;
+
+        ShardView(ReadOnlyAddressBook source, Shard shard) {
+            this.source = source;
+            this.shard = shard;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return shard == Shard.PERSONS ? source.getPersonList() : FXCollections.emptyObservableList();
+        }
+
+        @Override
+        public ObservableList<Event> getEventList() {
+            return shard == Shard.EVENTS ? source.getEventList() : FXCollections.emptyObservableList();
+        }
+
+        @Override
+        public ObservableList<Attendance> getAttendanceList() {
+            return shard == Shard.ATTENDANCES ? source.getAttendanceList() : FXCollections.emptyObservableList();
+        }
+
+        @Override
+        public List<Attendance> getLoadedAttendanceList() {
+            return shard == Shard.ATTENDANCES ? source.getLoadedAttendanceList() : List.of();
+        }
+
+        @Override
+        public List<SerializedEventAttendance> getUnloadedAttendanceList() {
+            return shard == Shard.ATTENDANCES ? source.getUnloadedAttendanceList() : List.of();
+        }
+
+        @Override
+        public ObservableList<Task> getTaskList() {
+            return shard == Shard.TASKS ? source.getTaskList() : FXCollections.emptyObservableList();
+        }
+
+        @Override
+        public Optional<Budget> getBudget() {
+            return shard == Shard.BUDGET ? source.getBudget() : Optional.empty();
+        }
+    }
+}
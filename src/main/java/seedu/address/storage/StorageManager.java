@@ -75,4 +75,15 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void checkSaveFailure() throws IOException {
+        addressBookStorage.checkSaveFailure();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        logger.fine("Waiting for pending writes to " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.flush();
+    }
+
 }
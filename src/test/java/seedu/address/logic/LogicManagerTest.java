@@ -26,9 +26,12 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UndoHistoryStatistics;
+import seedu.address.model.UndoMode;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
@@ -93,6 +96,48 @@ public class LogicManagerTest {
         assertTrue(result.getFeedbackToUser().contains("New task added"));
     }
 
+    @Test
+    public void execute_readOnlyCommand_skipsSave() throws Exception {
+        int[] saveCount = new int[1];
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, saveCount[0]);
+
+        logic.execute("addtask Test Task");
+        assertEquals(1, saveCount[0]);
+
+        // nothing changed since the last save
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void execute_commandBeyondUndoHistoryMaxBytes_evictsOldestState() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoMode(UndoMode.DELTA);
+        // room for the changes of one command that adds a task, but not of two
+        userPrefs.setUndoHistoryMaxBytes(100);
+        model = new ModelManager(new AddressBook(), userPrefs);
+        setUp();
+
+        logic.execute("addtask First Task");
+        logic.execute("addtask Second Task");
+
+        UndoHistoryStatistics statistics = model.getUndoHistoryStatistics();
+        assertEquals(1, statistics.getUndoCount());
+        assertTrue(statistics.getEstimatedBytes() <= statistics.getMaxBytes());
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -21,6 +21,7 @@ import seedu.address.model.attendance.Attendance;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -51,15 +52,15 @@ public class AddAttendanceCommandTest {
                 membersToAdd, List.of());
 
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-        expectedModel.addAttendance(new Attendance(EVENT.getEventId(), ALICE.getName()));
-        expectedModel.addAttendance(new Attendance(EVENT.getEventId(), BENSON.getName()));
+        expectedModel.addAttendance(new Attendance(EVENT.getEventId(), ALICE.getMemberId()));
+        expectedModel.addAttendance(new Attendance(EVENT.getEventId(), BENSON.getMemberId()));
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
     @Test
     public void execute_withExistingAttendance_reportsDuplicates() throws CommandException {
-        model.addAttendance(new Attendance(EVENT.getEventId(), ALICE.getName()));
+        model.addAttendance(new Attendance(EVENT.getEventId(), ALICE.getMemberId()));
 
         List<Name> members = List.of(ALICE.getName(), BENSON.getName());
         AddAttendanceCommand command = new AddAttendanceCommand(EVENT.getEventId(), members);
@@ -68,7 +69,7 @@ public class AddAttendanceCommandTest {
                 List.of(BENSON.getName()), List.of(ALICE.getName()));
 
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-        expectedModel.addAttendance(new Attendance(EVENT.getEventId(), BENSON.getName()));
+        expectedModel.addAttendance(new Attendance(EVENT.getEventId(), BENSON.getMemberId()));
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
@@ -90,6 +91,29 @@ public class AddAttendanceCommandTest {
                 String.format(AddAttendanceCommand.MESSAGE_MEMBER_NOT_FOUND, unknownMember));
     }
 
+    @Test
+    public void execute_severalMembersNotFound_reportsAllUnknownMembers() {
+        Name firstUnknown = new Name("Unknown Member");
+        Name secondUnknown = new Name("Another Stranger");
+        AddAttendanceCommand command = new AddAttendanceCommand(EVENT.getEventId(),
+                List.of(firstUnknown, ALICE.getName(), secondUnknown));
+
+        assertCommandFailure(command, model, String.format(AttendanceMessages.MESSAGE_MEMBERS_NOT_FOUND,
+                AttendanceMessages.formatNames(List.of(firstUnknown, secondUnknown))));
+        assertTrue(model.getAttendancesOfEvent(EVENT.getEventId()).isEmpty());
+    }
+
+    @Test
+    public void execute_nameSharedBySeveralMembers_throwsCommandException() {
+        Person aliceTwin = new PersonBuilder(ALICE).withStudentNumber("A7654321Z").build();
+        model.addPerson(aliceTwin);
+        AddAttendanceCommand command = new AddAttendanceCommand(EVENT.getEventId(), List.of(ALICE.getName()));
+
+        assertCommandFailure(command, model, AttendanceMessages.formatAmbiguousMember(ALICE.getName(),
+                List.of(ALICE.getMemberId(), aliceTwin.getMemberId())));
+        assertTrue(model.getAttendancesOfEvent(EVENT.getEventId()).isEmpty());
+    }
+
     @Test
     public void equals() {
         AddAttendanceCommand command = new AddAttendanceCommand(EVENT.getEventId(), List.of(ALICE.getName()));
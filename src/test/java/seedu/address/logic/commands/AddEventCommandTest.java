@@ -6,18 +6,26 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.testutil.TypicalEvents.getTypicalAddressBook;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookVersion;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UndoHistoryStatistics;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.attendance.Attendance;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentNumber;
@@ -130,6 +138,11 @@ public class AddEventCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBookVersion getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -245,6 +258,16 @@ public class AddEventCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public UndoHistoryStatistics getUndoHistoryStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void enforceUndoHistoryLimits() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void rollbackLastCommit() {
             throw new AssertionError("This method should not be called.");
@@ -255,6 +278,11 @@ public class AddEventCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Attendance> getAttendancesOfEvent(EventId eventId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addAttendance(seedu.address.model.attendance.Attendance attendance) {
             throw new AssertionError("This method should not be called.");
@@ -277,12 +305,42 @@ public class AddEventCommandTest {
         }
 
         @Override
-        public void removeAttendanceForMember(Name memberName) {
+        public void removeAttendanceForMember(MemberId memberId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void reassignAttendanceForMember(MemberId oldId, MemberId newId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<MemberId> getMembersOfEvent(EventId eventId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<MemberId> getAttendeesOfEvent(EventId eventId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setAttendanceOfMembers(EventId eventId, Collection<MemberId> memberIds, boolean hasAttended) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person getPersonByMemberId(MemberId memberId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person getPersonByStudentNumber(StudentNumber studentNumber) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void renameAttendanceForMember(Name oldName, Name newName) {
+        public Map<Name, List<Person>> getPersonsByName(Collection<Name> names) {
             throw new AssertionError("This method should not be called.");
         }
     }
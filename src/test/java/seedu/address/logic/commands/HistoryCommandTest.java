@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class HistoryCommandTest {
+
+    @Test
+    public void execute_emptyHistory_reportsNothingToUndo() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        String expectedMessage = String.format(HistoryCommand.MESSAGE_SUCCESS, 0, 100, 0, "0 B", "64.0 MB");
+        assertCommandSuccess(new HistoryCommand(), model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_historyAtDepthLimit_reportsConfiguredLimit() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMaxDepth(1);
+        Model model = new ModelManager(new AddressBook(), userPrefs);
+        model.commit();
+        model.addPerson(ALICE);
+        model.commit();
+        model.addPerson(BOB);
+
+        // only the most recent state is kept; it holds a copy of the single-person list
+        String expectedMessage = String.format(HistoryCommand.MESSAGE_SUCCESS, 1, 1, 0, "64 B", "64.0 MB");
+        assertCommandSuccess(new HistoryCommand(), model, expectedMessage, model);
+    }
+
+    @Test
+    public void formatBytes() {
+        assertEquals("1023 B", HistoryCommand.formatBytes(1023));
+        assertEquals("1.5 KB", HistoryCommand.formatBytes(1536));
+        assertEquals("2.0 MB", HistoryCommand.formatBytes(2L * 1024 * 1024));
+    }
+
+    @Test
+    public void equals() {
+        HistoryCommand historyCommand = new HistoryCommand();
+
+        assertTrue(historyCommand.equals(historyCommand));
+        assertTrue(historyCommand.equals(new HistoryCommand()));
+        assertFalse(historyCommand.equals(null));
+        assertFalse(historyCommand.equals(new UndoCommand()));
+    }
+}
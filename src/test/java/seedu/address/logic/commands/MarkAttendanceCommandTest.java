@@ -19,6 +19,8 @@ import seedu.address.model.attendance.Attendance;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for MarkAttendanceCommand.
@@ -39,7 +41,7 @@ public class MarkAttendanceCommandTest {
 
         EventId eventId = event.getEventId();
         Name memberName = ALICE.getName();
-        Attendance initialAttendance = new Attendance(eventId, memberName);
+        Attendance initialAttendance = new Attendance(eventId, ALICE.getMemberId());
         model.addAttendance(initialAttendance);
 
         MarkAttendanceCommand markAttendanceCommand = new MarkAttendanceCommand(eventId, List.of(memberName));
@@ -48,8 +50,8 @@ public class MarkAttendanceCommandTest {
                 event.getEventId().toString(), List.of(memberName), List.of());
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-        expectedModel.setAttendance(new Attendance(eventId, memberName),
-                new Attendance(eventId, memberName, true));
+        expectedModel.setAttendance(new Attendance(eventId, ALICE.getMemberId()),
+                new Attendance(eventId, ALICE.getMemberId(), true));
 
         assertCommandSuccess(markAttendanceCommand, model, expectedMessage, expectedModel);
     }
@@ -85,6 +87,40 @@ public class MarkAttendanceCommandTest {
                 String.format(MarkAttendanceCommand.MESSAGE_MEMBER_NOT_FOUND, nonExistentMemberName));
     }
 
+    @Test
+    public void execute_nameSharedBySeveralMembersWithRecords_throwsCommandException() {
+        Event event = new seedu.address.testutil.EventBuilder().withEventId("testEvent").build();
+        model.addEvent(event);
+        Person aliceTwin = new PersonBuilder(ALICE).withStudentNumber("A7654321Z").build();
+        model.addPerson(aliceTwin);
+        model.addAttendance(new Attendance(event.getEventId(), ALICE.getMemberId()));
+        model.addAttendance(new Attendance(event.getEventId(), aliceTwin.getMemberId()));
+
+        MarkAttendanceCommand markAttendanceCommand = new MarkAttendanceCommand(event.getEventId(),
+                List.of(ALICE.getName()));
+
+        assertCommandFailure(markAttendanceCommand, model, AttendanceMessages.formatAmbiguousMember(ALICE.getName(),
+                List.of(ALICE.getMemberId(), aliceTwin.getMemberId())));
+    }
+
+    @Test
+    public void execute_nameSharedWithMemberWithoutRecord_marksMemberWithRecord() {
+        Event event = new seedu.address.testutil.EventBuilder().withEventId("testEvent").build();
+        model.addEvent(event);
+        model.addPerson(new PersonBuilder(ALICE).withStudentNumber("A7654321Z").build());
+        model.addAttendance(new Attendance(event.getEventId(), ALICE.getMemberId()));
+
+        MarkAttendanceCommand markAttendanceCommand = new MarkAttendanceCommand(event.getEventId(),
+                List.of(ALICE.getName()));
+
+        String expectedMessage = AttendanceMessages.buildMarkAttendanceResult(
+                event.getEventId().toString(), List.of(ALICE.getName()), List.of());
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setAttendance(new Attendance(event.getEventId(), ALICE.getMemberId()),
+                new Attendance(event.getEventId(), ALICE.getMemberId(), true));
+        assertCommandSuccess(markAttendanceCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_duplicateAttendance_ignoresDuplicate() {
         // Add an event to the model
@@ -100,7 +136,7 @@ public class MarkAttendanceCommandTest {
 
         // First attendance
         MarkAttendanceCommand markAttendanceCommand = new MarkAttendanceCommand(eventId, List.of(memberName));
-        model.addAttendance(new Attendance(eventId, memberName, true));
+        model.addAttendance(new Attendance(eventId, ALICE.getMemberId(), true));
 
         // Second attendance (duplicate)
         String expectedMessage = AttendanceMessages.buildMarkAttendanceResult(
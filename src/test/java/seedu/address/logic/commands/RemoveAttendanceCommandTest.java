@@ -38,7 +38,7 @@ public class RemoveAttendanceCommandTest {
 
         EventId eventId = event.getEventId();
         Name memberName = ALICE.getName();
-        Attendance attendance = new Attendance(eventId, memberName, true);
+        Attendance attendance = new Attendance(eventId, ALICE.getMemberId(), true);
         model.addAttendance(attendance);
 
         RemoveAttendanceCommand command = new RemoveAttendanceCommand(eventId, List.of(memberName));
@@ -13,8 +13,9 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
-import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ShowAttendanceCommandTest {
 
@@ -31,8 +32,12 @@ public class ShowAttendanceCommandTest {
 
     @Test
     public void execute_eventWithAttendance_success() {
-        model.addAttendance(new Attendance(EVENT.getEventId(), new Name("Alice Tan"), true));
-        model.addAttendance(new Attendance(EVENT.getEventId(), new Name("Bob Lim"), false));
+        Person alice = new PersonBuilder().withName("Alice Tan").withStudentNumber("A1111111A").build();
+        Person bob = new PersonBuilder().withName("Bob Lim").withStudentNumber("A2222222B").build();
+        model.addPerson(alice);
+        model.addPerson(bob);
+        model.addAttendance(new Attendance(EVENT.getEventId(), alice.getMemberId(), true));
+        model.addAttendance(new Attendance(EVENT.getEventId(), bob.getMemberId(), false));
 
         ShowAttendanceCommand command = new ShowAttendanceCommand(EVENT.getEventId());
 
@@ -38,7 +38,7 @@ public class UnmarkAttendanceCommandTest {
 
         EventId eventId = event.getEventId();
         Name memberName = ALICE.getName();
-        Attendance initialAttendance = new Attendance(eventId, memberName, true);
+        Attendance initialAttendance = new Attendance(eventId, ALICE.getMemberId(), true);
         model.addAttendance(initialAttendance);
 
         UnmarkAttendanceCommand command = new UnmarkAttendanceCommand(eventId, List.of(memberName));
@@ -47,8 +47,8 @@ public class UnmarkAttendanceCommandTest {
                 event.getEventId().toString(), List.of(memberName), List.of());
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-        expectedModel.setAttendance(new Attendance(eventId, memberName, true),
-                new Attendance(eventId, memberName, false));
+        expectedModel.setAttendance(new Attendance(eventId, ALICE.getMemberId(), true),
+                new Attendance(eventId, ALICE.getMemberId(), false));
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
@@ -64,7 +64,7 @@ public class UnmarkAttendanceCommandTest {
 
         EventId eventId = event.getEventId();
         Name memberName = ALICE.getName();
-        Attendance initialAttendance = new Attendance(eventId, memberName, false);
+        Attendance initialAttendance = new Attendance(eventId, ALICE.getMemberId(), false);
         model.addAttendance(initialAttendance);
 
         UnmarkAttendanceCommand command = new UnmarkAttendanceCommand(eventId, List.of(memberName));
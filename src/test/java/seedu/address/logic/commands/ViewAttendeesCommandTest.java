@@ -12,8 +12,9 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
-import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ViewAttendeesCommandTest {
 
@@ -30,8 +31,12 @@ public class ViewAttendeesCommandTest {
 
     @Test
     public void execute_eventWithAttendees_success() {
-        model.addAttendance(new Attendance(EVENT.getEventId(), new Name("Alice"), true));
-        model.addAttendance(new Attendance(EVENT.getEventId(), new Name("Bob"), false));
+        Person alice = new PersonBuilder().withName("Alice").withStudentNumber("A1111111A").build();
+        Person bob = new PersonBuilder().withName("Bob").withStudentNumber("A2222222B").build();
+        model.addPerson(alice);
+        model.addPerson(bob);
+        model.addAttendance(new Attendance(EVENT.getEventId(), alice.getMemberId(), true));
+        model.addAttendance(new Attendance(EVENT.getEventId(), bob.getMemberId(), false));
 
         ViewAttendeesCommand command = new ViewAttendeesCommand(EVENT.getEventId());
         String expectedList = "• Alice (Attended)\n• Bob (Absent)";
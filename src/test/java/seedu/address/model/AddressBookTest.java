@@ -2,6 +2,10 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -21,6 +25,7 @@ import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentNumber;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.task.Task;
 import seedu.address.testutil.EventBuilder;
@@ -47,6 +52,32 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withAddressBook_copiesIdentityIndex() {
+        AddressBook newData = new AddressBook();
+        newData.addPerson(ALICE);
+        addressBook.resetData(newData);
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+
+        // the copy must not share its index with the source
+        newData.removePerson(ALICE);
+        assertTrue(addressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void getVersion_changesOnlyWhenContentsChange() {
+        AddressBookVersion initialVersion = addressBook.getVersion();
+        assertEquals(initialVersion, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        AddressBookVersion versionWithAlice = addressBook.getVersion();
+        assertNotEquals(initialVersion, versionWithAlice);
+
+        addressBook.removePerson(ALICE);
+        assertNotEquals(versionWithAlice, addressBook.getVersion());
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -58,6 +89,19 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void snapshot_unchangedListsSharedWithBase() {
+        AddressBook first = addressBook.snapshot(null);
+        addressBook.addPerson(ALICE);
+        AddressBook second = addressBook.snapshot(first);
+
+        assertSame(first.getEventList(), second.getEventList());
+        assertSame(first.getAttendanceList(), second.getAttendanceList());
+        assertNotSame(first.getPersonList(), second.getPersonList());
+        assertFalse(first.hasPerson(ALICE));
+        assertTrue(second.hasPerson(ALICE));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -82,6 +126,18 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonByStudentNumber_anyCase_returnsPerson() {
+        addressBook.addPerson(ALICE);
+        String studentNumber = ALICE.getStudentNumber().value;
+
+        assertSame(ALICE, addressBook.getPersonByStudentNumber(new StudentNumber(studentNumber.toLowerCase())));
+        assertSame(ALICE, addressBook.getPersonByStudentNumber(new StudentNumber(studentNumber.toUpperCase())));
+        assertTrue(addressBook.hasStudentNumber(new StudentNumber(studentNumber.toLowerCase())));
+        assertNull(addressBook.getPersonByStudentNumber(new StudentNumber("Z9999999Z")));
+        assertFalse(addressBook.hasStudentNumber(new StudentNumber("Z9999999Z")));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
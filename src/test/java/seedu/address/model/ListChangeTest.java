@@ -0,0 +1,135 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.SerializedEventAttendance;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ListChangeTest {
+
+    private static final Event ORIENTATION = new EventBuilder().withEventId("orientation").build();
+    private static final Event WORKSHOP = new EventBuilder().withEventId("workshop").build();
+
+    @Test
+    public void getChangesSince_sameChange_returnsNoChanges() {
+        ListChange<Person> change = ListChange.start();
+        assertEquals(List.of(), change.getChangesSince(change).get());
+    }
+
+    @Test
+    public void getChangesSince_changesOfPersons_replayOntoEarlierCopy() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<Person> saved = new ArrayList<>(addressBook.getPersonList());
+        ListChange<Person> savedChange = addressBook.getLastPersonChange();
+
+        addressBook.removePerson(BENSON);
+        addressBook.setPerson(CARL, new PersonBuilder(CARL).withPhone("91234567").build());
+        addressBook.addPerson(new PersonBuilder().withName("New Member").withStudentNumber("A7654321B").build());
+
+        assertEquals(addressBook.getPersonList(), replay(saved, addressBook.getLastPersonChange(), savedChange));
+    }
+
+    @Test
+    public void getChangesSince_removedAndReassignedRecords_replayOntoEarlierCopy() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        for (Event event : List.of(ORIENTATION, WORKSHOP)) {
+            addressBook.addEvent(event);
+            addressBook.addAttendance(new Attendance(event.getEventId(), ALICE.getMemberId(), true));
+            addressBook.addAttendance(new Attendance(event.getEventId(), BENSON.getMemberId(), false));
+        }
+        List<Attendance> saved = new ArrayList<>(addressBook.getAttendanceList());
+        ListChange<Attendance> savedChange = addressBook.getLastAttendanceChange();
+
+        addressBook.reassignAttendanceForMember(ALICE.getMemberId(), new MemberId("A7654321B"));
+        addressBook.removeAttendanceForMember(BENSON.getMemberId());
+
+        assertEquals(addressBook.getAttendanceList(),
+                replay(saved, addressBook.getLastAttendanceChange(), savedChange));
+    }
+
+    @Test
+    public void getChangesSince_undoneChanges_replayOntoEarlierCopy() {
+        VersionedAddressBook addressBook = new VersionedAddressBook(getTypicalAddressBook(), UndoMode.DELTA);
+        List<Person> saved = new ArrayList<>(addressBook.getPersonList());
+        ListChange<Person> savedChange = addressBook.getLastPersonChange();
+
+        addressBook.commit();
+        addressBook.removePerson(BENSON);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+        addressBook.undo();
+
+        assertEquals(saved, addressBook.getPersonList());
+        assertEquals(addressBook.getPersonList(), replay(saved, addressBook.getLastPersonChange(), savedChange));
+    }
+
+    @Test
+    public void getChangesSince_copy_sharesChanges() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook copy = new AddressBook(addressBook);
+        assertSame(addressBook.getLastPersonChange(), copy.getLastPersonChange());
+
+        ListChange<Person> savedChange = copy.getLastPersonChange();
+        copy.removePerson(ALICE);
+        assertEquals(1, copy.getLastPersonChange().getChangesSince(savedChange).get().size());
+    }
+
+    @Test
+    public void getChangesSince_loadedRecords_notKnown() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addEvent(ORIENTATION);
+        addressBook.addUnloadedAttendance(new SerializedEventAttendance(ORIENTATION.getEventId(),
+                List.of(ALICE.getMemberId().value), new BitSet()));
+        ListChange<Attendance> savedChange = addressBook.getLastAttendanceChange();
+
+        // the records loaded are added at the end of the list, which changes the positions the changes refer to
+        addressBook.getAttendancesOfEvent(ORIENTATION.getEventId());
+        addressBook.addAttendance(new Attendance(ORIENTATION.getEventId(), BENSON.getMemberId(), true));
+
+        assertFalse(addressBook.getLastAttendanceChange().getChangesSince(savedChange).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_beyondMaxLinkedChanges_notKnown() {
+        AddressBook addressBook = new AddressBook();
+        ListChange<Person> savedChange = addressBook.getLastPersonChange();
+        for (int i = 0; i <= ListChange.MAX_LINKED_CHANGES; i++) {
+            addressBook.addPerson(new PersonBuilder().withStudentNumber(String.format("A%07dX", i)).build());
+        }
+
+        assertFalse(addressBook.getLastPersonChange().getChangesSince(savedChange).isPresent());
+        assertTrue(addressBook.getLastPersonChange().getChangesSince(addressBook.getLastPersonChange()).isPresent());
+    }
+
+    /**
+     * Returns {@code saved} with the changes made after {@code savedChange} up to {@code lastChange} applied.
+     */
+    private static <T> List<T> replay(List<T> saved, ListChange<T> lastChange, ListChange<T> savedChange) {
+        List<T> replayed = new ArrayList<>(saved);
+        for (ListChange<T> change : lastChange.getChangesSince(savedChange).get()) {
+            List<T> range = replayed.subList(change.getIndex(), change.getIndex() + change.getRemovedCount());
+            range.clear();
+            range.addAll(change.getInsertedElements());
+        }
+        return replayed;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -10,13 +11,17 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.attendance.Attendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.common.Money;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -156,23 +161,39 @@ public class ModelManagerTest {
     }
 
     @Test
-    public void setPerson_updatesAttendanceNames() {
+    public void setPerson_renamedMember_keepsAttendance() {
         ModelManager manager = new ModelManager();
         Person originalPerson = new PersonBuilder().withName("Original Name").build();
         Person editedPerson = new PersonBuilder(originalPerson).withName("Updated Name").build();
         Event event = new EventBuilder().withEventId("TestEvent").build();
+        Attendance attendance = new Attendance(event.getEventId(), originalPerson.getMemberId(), true);
 
         manager.addPerson(originalPerson);
         manager.addEvent(event);
-        manager.addAttendance(new Attendance(event.getEventId(), originalPerson.getName(), true));
+        manager.addAttendance(attendance);
+
+        manager.setPerson(originalPerson, editedPerson);
+
+        assertEquals(List.of(attendance), manager.getAddressBook().getAttendanceList());
+        assertEquals(editedPerson, manager.getPersonByMemberId(attendance.getMemberId()));
+    }
+
+    @Test
+    public void setPerson_changedStudentNumber_reassignsAttendance() {
+        ModelManager manager = new ModelManager();
+        Person originalPerson = new PersonBuilder().withStudentNumber("A1111111A").build();
+        Person editedPerson = new PersonBuilder(originalPerson).withStudentNumber("A2222222B").build();
+        Event event = new EventBuilder().withEventId("TestEvent").build();
+
+        manager.addPerson(originalPerson);
+        manager.addEvent(event);
+        manager.addAttendance(new Attendance(event.getEventId(), originalPerson.getMemberId(), true));
 
         manager.setPerson(originalPerson, editedPerson);
 
         ObservableList<Attendance> attendances = manager.getAddressBook().getAttendanceList();
-        assertTrue(attendances.stream()
-                .anyMatch(attendance -> attendance.getMemberName().equals(editedPerson.getName())));
-        assertFalse(attendances.stream()
-                .anyMatch(attendance -> attendance.getMemberName().equals(originalPerson.getName())));
+        assertEquals(List.of(new Attendance(event.getEventId(), editedPerson.getMemberId(), true)), attendances);
+        assertNull(manager.getPersonByMemberId(originalPerson.getMemberId()));
     }
 
     @Test
@@ -183,13 +204,29 @@ public class ModelManagerTest {
 
         manager.addPerson(person);
         manager.addEvent(event);
-        manager.addAttendance(new Attendance(event.getEventId(), person.getName(), true));
+        manager.addAttendance(new Attendance(event.getEventId(), person.getMemberId(), true));
 
         manager.deletePerson(person);
 
         assertTrue(manager.getAddressBook().getAttendanceList().isEmpty());
     }
 
+    @Test
+    public void rollbackLastCommit_changesAfterCommit_revertsChanges() {
+        ModelManager manager = new ModelManager();
+        manager.addPerson(ALICE);
+
+        // a command that changes the model and then fails
+        manager.commit();
+        manager.addPerson(BENSON);
+        manager.setBudget(new Budget(Money.parse("100"), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)));
+        manager.rollbackLastCommit();
+
+        assertEquals(List.of(ALICE), manager.getAddressBook().getPersonList());
+        assertTrue(manager.getBudget().isEmpty());
+        assertFalse(manager.canUndo());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -18,4 +18,13 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setCompressionLevel_outOfRange_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, UserPrefs.MESSAGE_INVALID_COMPRESSION_LEVEL, () ->
+                userPrefs.setCompressionLevel(10));
+        assertThrows(IllegalArgumentException.class, UserPrefs.MESSAGE_INVALID_COMPRESSION_LEVEL, () ->
+                userPrefs.setCompressionLevel(-1));
+    }
+
 }
@@ -3,13 +3,32 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.SerializedEventAttendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.common.Money;
+import seedu.address.model.event.EventId;
+import seedu.address.model.person.MemberId;
+import seedu.address.testutil.PersonBuilder;
+
 public class VersionedAddressBookTest {
 
+    private static final Budget BUDGET = new Budget(Money.of(new BigDecimal("100")),
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+
     @Test
     public void commit_initialState_hasNoUndoHistory() {
         VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
@@ -121,4 +140,243 @@ public class VersionedAddressBookTest {
         assertTrue(versionedAddressBook.hasPerson(ALICE));
         assertTrue(versionedAddressBook.hasPerson(BOB));
     }
+
+    @Test
+    public void undoRedo_multipleCommits_restoresEachState() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+        assertFalse(versionedAddressBook.hasPerson(BOB));
+
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.hasPerson(ALICE));
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+        assertTrue(versionedAddressBook.hasPerson(BOB));
+    }
+
+    @Test
+    public void undoRedo_deltaMode_revertsAndReappliesChanges() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook(), UndoMode.DELTA);
+        versionedAddressBook.addPerson(ALICE);
+        AddressBook initialState = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+        versionedAddressBook.setBudget(BUDGET);
+        AddressBook editedState = new AddressBook(versionedAddressBook);
+
+        assertTrue(versionedAddressBook.undo());
+        assertEquals(initialState, versionedAddressBook);
+        assertFalse(versionedAddressBook.getBudget().isPresent());
+
+        assertTrue(versionedAddressBook.redo());
+        assertEquals(editedState, versionedAddressBook);
+        assertEquals(BUDGET, versionedAddressBook.getBudget().get());
+    }
+
+    @Test
+    public void undo_deltaModeRemovedAttendance_restoresOriginalOrder() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook(), UndoMode.DELTA);
+        EventId eventId = new EventId("E1");
+        Attendance aliceAttendance = new Attendance(eventId, ALICE.getMemberId());
+        Attendance bobAttendance = new Attendance(eventId, BOB.getMemberId());
+        Attendance aliceAgain = new Attendance(new EventId("E2"), ALICE.getMemberId());
+        versionedAddressBook.setAttendances(Arrays.asList(aliceAttendance, bobAttendance, aliceAgain));
+        List<Attendance> original = new ArrayList<>(versionedAddressBook.getAttendanceList());
+
+        versionedAddressBook.commit();
+        versionedAddressBook.removeAttendanceForMember(ALICE.getMemberId());
+        assertEquals(1, versionedAddressBook.getAttendanceList().size());
+
+        versionedAddressBook.undo();
+        assertEquals(original, versionedAddressBook.getAttendanceList());
+        assertTrue(versionedAddressBook.hasAttendance(aliceAgain));
+    }
+
+    @Test
+    public void undoRedo_deltaModeReassignedAttendance_restoresRecordsInPlace() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook(), UndoMode.DELTA);
+        EventId eventId = new EventId("E1");
+        versionedAddressBook.setAttendances(Arrays.asList(new Attendance(eventId, ALICE.getMemberId(), true),
+                new Attendance(eventId, BOB.getMemberId()), new Attendance(new EventId("E2"), ALICE.getMemberId())));
+        List<Attendance> original = new ArrayList<>(versionedAddressBook.getAttendanceList());
+
+        versionedAddressBook.commit();
+        MemberId newId = new MemberId("A9999999Z");
+        versionedAddressBook.reassignAttendanceForMember(ALICE.getMemberId(), newId);
+        List<Attendance> reassigned = new ArrayList<>(versionedAddressBook.getAttendanceList());
+        assertEquals(new Attendance(eventId, newId, true), reassigned.get(0));
+        assertEquals(2, versionedAddressBook.getAttendancesOfMember(newId).size());
+
+        versionedAddressBook.undo();
+        assertEquals(original, versionedAddressBook.getAttendanceList());
+        assertTrue(versionedAddressBook.getAttendancesOfMember(newId).isEmpty());
+
+        versionedAddressBook.redo();
+        assertEquals(reassigned, versionedAddressBook.getAttendanceList());
+    }
+
+    @Test
+    public void undoRedo_markedUnloadedAttendance_restoresAttendance() {
+        for (UndoMode undoMode : UndoMode.values()) {
+            VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook(), undoMode);
+            EventId eventId = new EventId("E1");
+            versionedAddressBook.addUnloadedAttendance(new SerializedEventAttendance(eventId,
+                    List.of(ALICE.getMemberId().value, BOB.getMemberId().value), new BitSet()));
+
+            versionedAddressBook.commit();
+            versionedAddressBook.setAttendanceOfMembers(eventId, List.of(ALICE.getMemberId(), BOB.getMemberId()),
+                    true);
+            assertEquals(List.of(ALICE.getMemberId(), BOB.getMemberId()),
+                    versionedAddressBook.getAttendeesOfEvent(eventId));
+
+            assertTrue(versionedAddressBook.undo());
+            assertEquals(List.of(), versionedAddressBook.getAttendeesOfEvent(eventId));
+            assertTrue(versionedAddressBook.redo());
+            assertEquals(List.of(new Attendance(eventId, ALICE.getMemberId(), true),
+                    new Attendance(eventId, BOB.getMemberId(), true)),
+                    versionedAddressBook.getAttendancesOfEvent(eventId));
+        }
+    }
+
+    @Test
+    public void rollbackLastCommit_deltaMode_revertsChangesAndDropsHistory() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook(), UndoMode.DELTA);
+        versionedAddressBook.addPerson(ALICE);
+
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.setBudget(BUDGET);
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.rollbackLastCommit();
+
+        assertEquals(List.of(ALICE), versionedAddressBook.getPersonList());
+        assertTrue(versionedAddressBook.getBudget().isEmpty());
+        assertFalse(versionedAddressBook.canUndo());
+
+        // changes after a rollback are not recorded into any earlier change set
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+        assertFalse(versionedAddressBook.hasPerson(BOB));
+    }
+
+    @Test
+    public void rollbackLastCommit_snapshotMode_revertsChangesAndDropsHistory() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+        versionedAddressBook.addPerson(ALICE);
+
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.setBudget(BUDGET);
+        versionedAddressBook.rollbackLastCommit();
+
+        assertEquals(List.of(ALICE), versionedAddressBook.getPersonList());
+        assertTrue(versionedAddressBook.getBudget().isEmpty());
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void commit_beyondMaxDepth_evictsOldestState() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+        versionedAddressBook.setHistoryLimits(2, VersionedAddressBook.DEFAULT_MAX_HISTORY_BYTES);
+
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(ALICE);
+
+        assertEquals(2, versionedAddressBook.getUndoCount());
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+
+        // the empty initial state was evicted, so undoing stops at the state with ALICE
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+        assertFalse(versionedAddressBook.hasPerson(BOB));
+    }
+
+    @Test
+    public void commit_beyondMaxBytes_keepsMostRecentState() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+        versionedAddressBook.setHistoryLimits(VersionedAddressBook.DEFAULT_MAX_HISTORY_DEPTH, 1);
+
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+
+        assertEquals(1, versionedAddressBook.getUndoCount());
+        assertEquals(2 * UniqueList.ESTIMATED_BYTES_PER_ELEMENT, versionedAddressBook.getEstimatedHistoryBytes());
+    }
+
+    @Test
+    public void enforceHistoryLimits_changesAfterCommitBeyondMaxBytes_evictsOldestChangeSet() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook(), UndoMode.DELTA);
+        versionedAddressBook.setHistoryLimits(VersionedAddressBook.DEFAULT_MAX_HISTORY_DEPTH,
+                UniqueList.ESTIMATED_BYTES_PER_ELEMENT);
+
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        // the new change set is empty when committed, so the history only goes over its limit afterwards
+        assertEquals(2, versionedAddressBook.getUndoCount());
+        versionedAddressBook.addPerson(BOB);
+
+        versionedAddressBook.enforceHistoryLimits();
+        assertEquals(1, versionedAddressBook.getUndoCount());
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+        assertFalse(versionedAddressBook.hasPerson(BOB));
+    }
+
+    @Test
+    public void getEstimatedHistoryBytes_sharedLists_countedOnce() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.setBudget(BUDGET);
+        versionedAddressBook.commit();
+
+        // both snapshots share the same person list
+        assertEquals(UniqueList.ESTIMATED_BYTES_PER_ELEMENT, versionedAddressBook.getEstimatedHistoryBytes());
+    }
+
+    @Test
+    public void setHistoryLimits_deltaMode_evictsOldestChangeSets() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook(), UndoMode.DELTA);
+
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        assertEquals(2 * UniqueList.ESTIMATED_BYTES_PER_ELEMENT, versionedAddressBook.getEstimatedHistoryBytes());
+
+        versionedAddressBook.setHistoryLimits(1, VersionedAddressBook.DEFAULT_MAX_HISTORY_BYTES);
+        assertEquals(1, versionedAddressBook.getUndoCount());
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+        assertFalse(versionedAddressBook.hasPerson(BOB));
+    }
+
+    @Test
+    public void setHistoryLimits_nonPositive_throwsIllegalArgumentException() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+        assertThrows(IllegalArgumentException.class, () -> versionedAddressBook.setHistoryLimits(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> versionedAddressBook.setHistoryLimits(1, 0));
+    }
 }
@@ -0,0 +1,130 @@
+package seedu.address.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.attendance.exceptions.AttendanceNotFoundException;
+import seedu.address.model.event.EventId;
+import seedu.address.model.person.MemberId;
+
+public class AttendanceMatrixTest {
+
+    private static final EventId ORIENTATION = new EventId("orientation");
+    private static final EventId WORKSHOP = new EventId("workshop");
+
+    // more members than fit in one word, so that rosters span several words
+    private static final int ROSTER_SIZE = 150;
+
+    private final List<MemberId> roster = new ArrayList<>();
+    private final AttendanceMatrix matrix = new AttendanceMatrix();
+
+    @BeforeEach
+    public void setUp() {
+        List<String> memberIds = new ArrayList<>();
+        BitSet attended = new BitSet();
+        for (int i = 0; i < ROSTER_SIZE; i++) {
+            MemberId memberId = new MemberId(String.format("A%07dZ", i));
+            roster.add(memberId);
+            memberIds.add(memberId.value);
+            if (i % 2 == 0) {
+                attended.set(i);
+            }
+        }
+        matrix.add(new SerializedEventAttendance(ORIENTATION, memberIds, attended));
+        matrix.add(new SerializedEventAttendance(WORKSHOP, List.of(roster.get(149).value, roster.get(3).value),
+                new BitSet()));
+    }
+
+    @Test
+    public void getMembersOfEvent_inOrderMembersWereFirstSeen() {
+        assertEquals(roster, matrix.getMembersOfEvent(ORIENTATION, false));
+        assertEquals(ROSTER_SIZE / 2, matrix.getMembersOfEvent(ORIENTATION, true).size());
+        assertEquals(List.of(roster.get(3), roster.get(149)), matrix.getMembersOfEvent(WORKSHOP, false));
+        assertEquals(List.of(), matrix.getMembersOfEvent(new EventId("briefing"), false));
+    }
+
+    @Test
+    public void hasRecord() {
+        assertTrue(matrix.hasRecord(WORKSHOP, roster.get(149)));
+        assertFalse(matrix.hasRecord(WORKSHOP, roster.get(148)));
+        assertFalse(matrix.hasRecord(WORKSHOP, new MemberId("B0000000B")));
+        assertFalse(matrix.hasRecord(new EventId("briefing"), roster.get(3)));
+    }
+
+    @Test
+    public void getEventsOfMember() {
+        assertEquals(List.of(ORIENTATION, WORKSHOP), matrix.getEventsOfMember(roster.get(149)));
+        assertEquals(List.of(ORIENTATION), matrix.getEventsOfMember(roster.get(0)));
+        assertEquals(List.of(), matrix.getEventsOfMember(new MemberId("B0000000B")));
+    }
+
+    @Test
+    public void setAttended_wholeRoster_marksEveryRecord() {
+        assertTrue(matrix.setAttended(ORIENTATION, roster, true));
+        assertEquals(roster, matrix.getMembersOfEvent(ORIENTATION, true));
+        assertFalse(matrix.setAttended(ORIENTATION, roster, true));
+
+        assertTrue(matrix.setAttended(ORIENTATION, roster, false));
+        assertEquals(List.of(), matrix.getMembersOfEvent(ORIENTATION, true));
+        assertEquals(roster, matrix.getMembersOfEvent(ORIENTATION, false));
+    }
+
+    @Test
+    public void setAttended_memberWithoutRecord_throwsAttendanceNotFoundException() {
+        assertThrows(AttendanceNotFoundException.class, () ->
+                matrix.setAttended(WORKSHOP, List.of(roster.get(3), roster.get(4)), true));
+        assertThrows(AttendanceNotFoundException.class, () ->
+                matrix.setAttended(new EventId("briefing"), List.of(roster.get(3)), true));
+        assertEquals(List.of(), matrix.getMembersOfEvent(WORKSHOP, true));
+    }
+
+    @Test
+    public void copy_changesToOriginal_doNotAffectCopy() {
+        AttendanceMatrix copy = new AttendanceMatrix(matrix);
+        matrix.setAttended(WORKSHOP, List.of(roster.get(3)), true);
+        matrix.removeMember(roster.get(149));
+
+        assertEquals(List.of(), copy.getMembersOfEvent(WORKSHOP, true));
+        assertEquals(List.of(roster.get(3), roster.get(149)), copy.getMembersOfEvent(WORKSHOP, false));
+    }
+
+    @Test
+    public void removeMember_lastRecordOfEvent_removesEvent() {
+        assertTrue(matrix.removeMember(roster.get(3)));
+        assertTrue(matrix.removeMember(roster.get(149)));
+        assertFalse(matrix.containsEvent(WORKSHOP));
+        assertEquals(ROSTER_SIZE - 2, matrix.getMembersOfEvent(ORIENTATION, false).size());
+        assertFalse(matrix.removeMember(roster.get(3)));
+    }
+
+    @Test
+    public void removeEvent_returnsRecords() {
+        assertEquals(List.of(new Attendance(WORKSHOP, roster.get(3)), new Attendance(WORKSHOP, roster.get(149))),
+                matrix.removeEvent(WORKSHOP));
+        assertFalse(matrix.containsEvent(WORKSHOP));
+        assertEquals(List.of(), matrix.removeEvent(WORKSHOP));
+
+        assertEquals(ROSTER_SIZE, matrix.removeAll().size());
+        assertTrue(matrix.isEmpty());
+    }
+
+    @Test
+    public void toSerializedAttendances_roundTrip() {
+        matrix.setAttended(WORKSHOP, List.of(roster.get(149)), true);
+        AttendanceMatrix readBack = new AttendanceMatrix();
+        matrix.toSerializedAttendances().forEach(readBack::add);
+
+        assertEquals(matrix.getMembersOfEvent(ORIENTATION, true), readBack.getMembersOfEvent(ORIENTATION, true));
+        assertEquals(List.of(new Attendance(WORKSHOP, roster.get(3)), new Attendance(WORKSHOP, roster.get(149), true)),
+                readBack.removeEvent(WORKSHOP));
+    }
+}
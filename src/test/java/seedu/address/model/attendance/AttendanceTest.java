@@ -8,7 +8,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.event.EventId;
-import seedu.address.model.person.Name;
+import seedu.address.model.person.MemberId;
 
 /**
  * Test class for Attendance.
@@ -17,46 +17,46 @@ public class AttendanceTest {
 
     @Test
     public void constructor_nullEventId_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Attendance(null, new Name("John Doe")));
+        assertThrows(NullPointerException.class, () -> new Attendance(null, new MemberId("A0000001A")));
     }
 
     @Test
-    public void constructor_nullMemberName_throwsNullPointerException() {
+    public void constructor_nullMemberId_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new Attendance(new EventId("Event1"), null));
     }
 
     @Test
     public void constructor_validParameters_success() {
         EventId eventId = new EventId("Event1");
-        Name memberName = new Name("John Doe");
-        Attendance attendance = new Attendance(eventId, memberName);
+        MemberId memberId = new MemberId("A0000001A");
+        Attendance attendance = new Attendance(eventId, memberId);
 
         assertEquals(eventId, attendance.getEventId());
-        assertEquals(memberName, attendance.getMemberName());
+        assertEquals(memberId, attendance.getMemberId());
     }
 
     @Test
     public void isSameAttendance() {
         EventId eventId1 = new EventId("Event1");
         EventId eventId2 = new EventId("Event2");
-        Name memberName1 = new Name("John Doe");
-        Name memberName2 = new Name("Jane Doe");
+        MemberId memberId1 = new MemberId("A0000001A");
+        MemberId memberId2 = new MemberId("A0000002B");
 
-        Attendance attendance1 = new Attendance(eventId1, memberName1);
-        Attendance attendance2 = new Attendance(eventId1, memberName1);
-        Attendance attendance3 = new Attendance(eventId2, memberName1);
-        Attendance attendance4 = new Attendance(eventId1, memberName2);
+        Attendance attendance1 = new Attendance(eventId1, memberId1);
+        Attendance attendance2 = new Attendance(eventId1, memberId1);
+        Attendance attendance3 = new Attendance(eventId2, memberId1);
+        Attendance attendance4 = new Attendance(eventId1, memberId2);
 
         // same object -> returns true
         assertTrue(attendance1.isSameAttendance(attendance1));
 
-        // same event ID and member name -> returns true
+        // same event ID and member ID -> returns true
         assertTrue(attendance1.isSameAttendance(attendance2));
 
         // different event ID -> returns false
         assertFalse(attendance1.isSameAttendance(attendance3));
 
-        // different member name -> returns false
+        // different member ID -> returns false
         assertFalse(attendance1.isSameAttendance(attendance4));
 
         // null -> returns false
@@ -67,13 +67,13 @@ public class AttendanceTest {
     public void equals() {
         EventId eventId1 = new EventId("Event1");
         EventId eventId2 = new EventId("Event2");
-        Name memberName1 = new Name("John Doe");
-        Name memberName2 = new Name("Jane Doe");
+        MemberId memberId1 = new MemberId("A0000001A");
+        MemberId memberId2 = new MemberId("A0000002B");
 
-        Attendance attendance1 = new Attendance(eventId1, memberName1);
-        Attendance attendance2 = new Attendance(eventId1, memberName1);
-        Attendance attendance3 = new Attendance(eventId2, memberName1);
-        Attendance attendance4 = new Attendance(eventId1, memberName2);
+        Attendance attendance1 = new Attendance(eventId1, memberId1);
+        Attendance attendance2 = new Attendance(eventId1, memberId1);
+        Attendance attendance3 = new Attendance(eventId2, memberId1);
+        Attendance attendance4 = new Attendance(eventId1, memberId2);
 
         // same object -> returns true
         assertTrue(attendance1.equals(attendance1));
@@ -84,7 +84,7 @@ public class AttendanceTest {
         // different event ID -> returns false
         assertFalse(attendance1.equals(attendance3));
 
-        // different member name -> returns false
+        // different member ID -> returns false
         assertFalse(attendance1.equals(attendance4));
 
         // null -> returns false
@@ -0,0 +1,249 @@
+package seedu.address.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.attendance.exceptions.AttendanceNotFoundException;
+import seedu.address.model.attendance.exceptions.DuplicateAttendanceException;
+import seedu.address.model.event.EventId;
+import seedu.address.model.person.MemberId;
+
+public class UniqueAttendanceListTest {
+
+    private static final EventId ORIENTATION = new EventId("orientation");
+    private static final EventId WORKSHOP = new EventId("workshop");
+
+    private static final MemberId ALICE = new MemberId("A0000001A");
+    private static final MemberId BOB = new MemberId("A0000002B");
+    private static final MemberId CARL = new MemberId("A0000003C");
+
+    private static final Attendance ALICE_AT_ORIENTATION = new Attendance(ORIENTATION, ALICE, true);
+    private static final Attendance BOB_AT_ORIENTATION = new Attendance(ORIENTATION, BOB, false);
+    private static final Attendance ALICE_AT_WORKSHOP = new Attendance(WORKSHOP, ALICE, false);
+
+    private final UniqueAttendanceList attendances = new UniqueAttendanceList();
+
+    @BeforeEach
+    public void setUp() {
+        BitSet attended = new BitSet();
+        attended.set(0);
+        attendances.addUnloaded(new SerializedEventAttendance(ORIENTATION,
+                List.of(ALICE.value, BOB.value), attended));
+        attendances.addUnloaded(new SerializedEventAttendance(WORKSHOP, List.of(ALICE.value), new BitSet()));
+    }
+
+    @Test
+    public void getAttendancesOfEvent_unloadedEvent_loadsOnlyThatEvent() {
+        long version = attendances.getVersion();
+
+        assertEquals(List.of(ALICE_AT_ORIENTATION, BOB_AT_ORIENTATION), attendances.getAttendancesOfEvent(ORIENTATION));
+        assertEquals(List.of(ALICE_AT_ORIENTATION, BOB_AT_ORIENTATION), attendances.getLoadedAttendances());
+        assertEquals(1, attendances.getUnloadedAttendances().size());
+        assertEquals(WORKSHOP, attendances.getUnloadedAttendances().get(0).getEventId());
+        assertEquals(version, attendances.getVersion());
+    }
+
+    @Test
+    public void contains_unloadedRecord_returnsTrue() {
+        assertTrue(attendances.contains(ALICE_AT_WORKSHOP));
+        assertFalse(attendances.contains(new Attendance(WORKSHOP, BOB)));
+    }
+
+    @Test
+    public void add_recordOfUnloadedEvent_checksUnloadedRecords() {
+        assertThrows(DuplicateAttendanceException.class, () -> attendances.add(BOB_AT_ORIENTATION.markAttended()));
+
+        Attendance carl = new Attendance(WORKSHOP, CARL);
+        attendances.add(carl);
+        assertEquals(List.of(ALICE_AT_WORKSHOP, carl), attendances.getAttendancesOfEvent(WORKSHOP));
+    }
+
+    @Test
+    public void addUnloaded_eventAlreadyPresent_throwsDuplicateAttendanceException() {
+        SerializedEventAttendance workshop = new SerializedEventAttendance(WORKSHOP, List.of(BOB.value), new BitSet());
+        assertThrows(DuplicateAttendanceException.class, () -> attendances.addUnloaded(workshop));
+
+        attendances.getAttendancesOfEvent(WORKSHOP);
+        assertThrows(DuplicateAttendanceException.class, () -> attendances.addUnloaded(workshop));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_loadsEveryRecord() {
+        long version = attendances.getVersion();
+
+        assertEquals(List.of(ALICE_AT_ORIENTATION, BOB_AT_ORIENTATION, ALICE_AT_WORKSHOP),
+                attendances.asUnmodifiableObservableList());
+        assertTrue(attendances.getUnloadedAttendances().isEmpty());
+        assertEquals(version, attendances.getVersion());
+    }
+
+    @Test
+    public void setAttendances_unloadedReplacement_keepsRecordsUnloaded() {
+        UniqueAttendanceList copy = new UniqueAttendanceList();
+        copy.setAttendances(attendances);
+
+        assertTrue(copy.getLoadedAttendances().isEmpty());
+        assertEquals(2, copy.getUnloadedAttendances().size());
+        assertEquals(attendances, copy);
+    }
+
+    @Test
+    public void getMembersOfEvent_unloadedEvent_keepsEventUnloaded() {
+        long version = attendances.getVersion();
+
+        assertEquals(List.of(ALICE, BOB), attendances.getMembersOfEvent(ORIENTATION));
+        assertEquals(List.of(ALICE), attendances.getAttendeesOfEvent(ORIENTATION));
+        assertEquals(List.of(), attendances.getMembersOfEvent(new EventId("briefing")));
+        assertTrue(attendances.getLoadedAttendances().isEmpty());
+        assertEquals(version, attendances.getVersion());
+
+        attendances.getAttendancesOfEvent(ORIENTATION);
+        assertEquals(List.of(ALICE, BOB), attendances.getMembersOfEvent(ORIENTATION));
+        assertEquals(List.of(ALICE), attendances.getAttendeesOfEvent(ORIENTATION));
+    }
+
+    @Test
+    public void setAttendanceOfMembers_unloadedEvent_marksWithoutLoading() {
+        long version = attendances.getVersion();
+
+        attendances.setAttendanceOfMembers(ORIENTATION, List.of(ALICE, BOB), true);
+        assertTrue(attendances.getLoadedAttendances().isEmpty());
+        assertEquals(List.of(ALICE, BOB), attendances.getAttendeesOfEvent(ORIENTATION));
+        assertTrue(version < attendances.getVersion());
+
+        attendances.setAttendanceOfMembers(ORIENTATION, List.of(ALICE), false);
+        assertEquals(List.of(new Attendance(ORIENTATION, ALICE, false), BOB_AT_ORIENTATION.markAttended()),
+                attendances.getAttendancesOfEvent(ORIENTATION));
+    }
+
+    @Test
+    public void setAttendanceOfMembers_loadedEvent_replacesRecords() {
+        attendances.getAttendancesOfEvent(ORIENTATION);
+        attendances.setAttendanceOfMembers(ORIENTATION, List.of(ALICE, BOB), false);
+        assertEquals(List.of(ALICE_AT_ORIENTATION.markAbsent(), BOB_AT_ORIENTATION),
+                attendances.getAttendancesOfEvent(ORIENTATION));
+    }
+
+    @Test
+    public void setAttendanceOfMembers_memberWithoutRecord_throwsAttendanceNotFoundException() {
+        assertThrows(AttendanceNotFoundException.class, () ->
+                attendances.setAttendanceOfMembers(WORKSHOP, List.of(ALICE, BOB), true));
+        assertEquals(List.of(), attendances.getAttendeesOfEvent(WORKSHOP));
+
+        attendances.getAttendancesOfEvent(WORKSHOP);
+        assertThrows(AttendanceNotFoundException.class, () ->
+                attendances.setAttendanceOfMembers(WORKSHOP, List.of(ALICE, BOB), true));
+        assertEquals(List.of(ALICE_AT_WORKSHOP), attendances.getAttendancesOfEvent(WORKSHOP));
+    }
+
+    @Test
+    public void getAttendancesOfMember_loadsOnlyEventsOfMember() {
+        attendances.addUnloaded(new SerializedEventAttendance(new EventId("briefing"), List.of(CARL.value),
+                new BitSet()));
+
+        assertEquals(List.of(BOB_AT_ORIENTATION), attendances.getAttendancesOfMember(BOB));
+        assertEquals(2, attendances.getUnloadedAttendances().size());
+        assertEquals(List.of(), attendances.getAttendancesOfMember(new MemberId("A0000004D")));
+    }
+
+    @Test
+    public void indexes_followChanges() {
+        Attendance carl = new Attendance(WORKSHOP, CARL);
+        attendances.add(carl);
+        attendances.setAttendance(ALICE_AT_WORKSHOP, ALICE_AT_WORKSHOP.markAttended());
+        attendances.remove(BOB_AT_ORIENTATION);
+
+        assertEquals(List.of(ALICE_AT_WORKSHOP.markAttended(), carl), attendances.getAttendancesOfEvent(WORKSHOP));
+        assertEquals(List.of(ALICE_AT_ORIENTATION), attendances.getAttendancesOfEvent(ORIENTATION));
+        assertEquals(List.of(), attendances.getAttendancesOfMember(BOB));
+
+        attendances.setAttendances(List.of(carl));
+        assertEquals(List.of(), attendances.getAttendancesOfEvent(ORIENTATION));
+        assertEquals(List.of(carl), attendances.getAttendancesOfMember(CARL));
+    }
+
+    @Test
+    public void reassignMember_unloadedRecords_reassignsInEveryEvent() {
+        MemberId alicia = new MemberId("A0000009Z");
+        attendances.reassignMember(ALICE, alicia);
+
+        assertEquals(List.of(new Attendance(ORIENTATION, alicia, true), new Attendance(WORKSHOP, alicia, false)),
+                attendances.getAttendancesOfMember(alicia));
+        assertEquals(List.of(), attendances.getAttendancesOfMember(ALICE));
+        assertTrue(attendances.contains(BOB_AT_ORIENTATION));
+    }
+
+    @Test
+    public void reassignMember_idTakenInSameEvent_throwsDuplicateAttendanceException() {
+        assertThrows(DuplicateAttendanceException.class, () -> attendances.reassignMember(ALICE, BOB));
+        assertEquals(2, attendances.getAttendancesOfMember(ALICE).size());
+    }
+
+    @Test
+    public void removeAttendancesByMember_unloadedRecords_removesFromEveryEvent() {
+        attendances.removeAttendancesByMember(ALICE);
+        assertEquals(List.of(BOB), attendances.getMembersOfEvent(ORIENTATION));
+        assertEquals(List.of(), attendances.getMembersOfEvent(WORKSHOP));
+        assertEquals(List.of(BOB_AT_ORIENTATION), attendances.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void equals_unloadedRecords_comparedWithoutLoading() {
+        UniqueAttendanceList sameRecordsUnloaded = new UniqueAttendanceList();
+        // members first seen in another order, so they are given other ordinals
+        sameRecordsUnloaded.addUnloaded(new SerializedEventAttendance(ORIENTATION, List.of(BOB.value, ALICE.value),
+                attendedAt(1)));
+        sameRecordsUnloaded.addUnloaded(new SerializedEventAttendance(WORKSHOP, List.of(ALICE.value), new BitSet()));
+        UniqueAttendanceList otherRecordsUnloaded = new UniqueAttendanceList();
+        otherRecordsUnloaded.addUnloaded(new SerializedEventAttendance(ORIENTATION, List.of(ALICE.value, BOB.value),
+                attendedAt(1)));
+        otherRecordsUnloaded.addUnloaded(new SerializedEventAttendance(WORKSHOP, List.of(ALICE.value), new BitSet()));
+
+        assertEquals(attendances, sameRecordsUnloaded);
+        assertEquals(attendances.hashCode(), sameRecordsUnloaded.hashCode());
+        assertNotEquals(attendances, otherRecordsUnloaded);
+        assertTrue(attendances.getLoadedAttendances().isEmpty());
+        assertTrue(sameRecordsUnloaded.getLoadedAttendances().isEmpty());
+
+        // the same records, but loaded
+        UniqueAttendanceList loaded = new UniqueAttendanceList();
+        loaded.setAttendances(List.of(ALICE_AT_ORIENTATION, BOB_AT_ORIENTATION, ALICE_AT_WORKSHOP));
+        assertNotEquals(attendances, loaded);
+        assertTrue(attendances.getLoadedAttendances().isEmpty());
+    }
+
+    @Test
+    public void equals_loadedRecordsInOtherOrder_returnsFalse() {
+        UniqueAttendanceList first = new UniqueAttendanceList();
+        first.setAttendances(List.of(ALICE_AT_ORIENTATION, BOB_AT_ORIENTATION));
+        UniqueAttendanceList second = new UniqueAttendanceList();
+        second.setAttendances(List.of(BOB_AT_ORIENTATION, ALICE_AT_ORIENTATION));
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void equals_copyWithOtherRecordsLoaded_returnsFalse() {
+        UniqueAttendanceList copy = new UniqueAttendanceList();
+        copy.setAttendances(attendances);
+        assertEquals(attendances, copy);
+
+        copy.getAttendancesOfEvent(ORIENTATION);
+        assertEquals(attendances.getVersion(), copy.getVersion());
+        assertNotEquals(attendances, copy);
+    }
+
+    private static BitSet attendedAt(int index) {
+        BitSet attended = new BitSet();
+        attended.set(index);
+        return attended;
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.address.model.budget;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.common.Money;
+
+public class BudgetTest {
+
+    private final Budget budget = new Budget(Money.parse("100.50"), LocalDate.of(2025, 1, 1),
+            LocalDate.of(2025, 12, 31));
+
+    @Test
+    public void remaining() {
+        assertEquals("100.50", budget.remaining(Money.zero()));
+        assertEquals("0.45", budget.remaining(Money.parse("100.05")));
+        assertEquals("0.00", budget.remaining(Money.parse("100.50")));
+        assertEquals("-0.05", budget.remaining(Money.parse("100.55")));
+        assertEquals("-92233720368547657.57", budget.remaining(Money.ofCents(Long.MAX_VALUE)));
+    }
+}
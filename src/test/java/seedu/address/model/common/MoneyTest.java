@@ -0,0 +1,46 @@
+package seedu.address.model.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+public class MoneyTest {
+
+    @Test
+    public void parse_roundsToCents() {
+        assertEquals(1050, Money.parse("10.5").toCents());
+        assertEquals(1001, Money.parse("10.005").toCents());
+        assertEquals(1000, Money.parse("10.004").toCents());
+        assertEquals(new BigDecimal("10.50"), Money.parse("10.5").toBigDecimal());
+        assertSame(Money.ZERO, Money.parse("0.00"));
+    }
+
+    @Test
+    public void parse_invalidAmount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Money.parse("ten"));
+        assertThrows(IllegalArgumentException.class, () -> Money.parse("-0.01"));
+        assertThrows(IllegalArgumentException.class, () -> Money.parse("100000000000000000000"));
+        assertThrows(IllegalArgumentException.class, () -> Money.ofCents(-1));
+    }
+
+    @Test
+    public void toString_twoDecimalPlaces() {
+        assertEquals("0.00", Money.zero().toString());
+        assertEquals("0.05", Money.ofCents(5).toString());
+        assertEquals("12.30", Money.parse("12.3").toString());
+        assertEquals("92233720368547758.07", Money.ofCents(Long.MAX_VALUE).toString());
+    }
+
+    @Test
+    public void arithmetic() {
+        Money amount = Money.parse("10.25");
+        assertEquals(Money.parse("15"), amount.plus(Money.parse("4.75")));
+        assertEquals(Money.parse("5.50"), amount.minus(Money.parse("4.75")));
+        assertThrows(IllegalArgumentException.class, () -> amount.minus(Money.parse("10.26")));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MAX_VALUE).plus(Money.ofCents(1)));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class DailyExpenseTreeTest {
+
+    private static final LocalDate NEW_YEAR = LocalDate.of(2025, 1, 1);
+
+    private final DailyExpenseTree tree = new DailyExpenseTree();
+
+    @Test
+    public void sum_empty_returnsZero() {
+        assertEquals(0, tree.sum(NEW_YEAR, NEW_YEAR.plusYears(1)));
+    }
+
+    @Test
+    public void sum_rangesOfDays() {
+        for (int i = 0; i < 365; i++) {
+            tree.add(NEW_YEAR.plusDays(i), i + 1);
+        }
+        assertEquals(365 * 366 / 2, tree.sum(NEW_YEAR, NEW_YEAR.plusDays(364)));
+        assertEquals(365 * 366 / 2, tree.sum(NEW_YEAR.minusYears(1), NEW_YEAR.plusYears(1)));
+        assertEquals(1, tree.sum(NEW_YEAR, NEW_YEAR));
+        assertEquals(31 + 32, tree.sum(NEW_YEAR.plusDays(30), NEW_YEAR.plusDays(31)));
+        assertEquals(0, tree.sum(NEW_YEAR.plusYears(1), NEW_YEAR.plusYears(2)));
+    }
+
+    @Test
+    public void add_datesBeforeAndAfterCoveredDays_keepsTotals() {
+        tree.add(NEW_YEAR, 500);
+        tree.add(NEW_YEAR.minusYears(3), 200);
+        tree.add(NEW_YEAR.plusYears(4), 50);
+        tree.add(NEW_YEAR, -100);
+
+        assertEquals(650, tree.sum(NEW_YEAR.minusYears(3), NEW_YEAR.plusYears(4)));
+        assertEquals(400, tree.sum(NEW_YEAR.minusDays(1), NEW_YEAR.plusDays(1)));
+        assertEquals(200, tree.sum(NEW_YEAR.minusYears(10), NEW_YEAR.minusDays(1)));
+        assertEquals(50, tree.sum(NEW_YEAR.plusDays(1), NEW_YEAR.plusYears(10)));
+
+        tree.clear();
+        assertEquals(0, tree.sum(NEW_YEAR.minusYears(3), NEW_YEAR.plusYears(4)));
+    }
+
+    @Test
+    public void sum_largestTotalOfAList_isExact() {
+        // as many events at the largest expense as a list can hold, all but one of them on the same day
+        long largestDayTotal = Event.MAX_EXPENSE.toCents() * (Integer.MAX_VALUE - 1);
+        tree.add(NEW_YEAR, largestDayTotal);
+        tree.add(NEW_YEAR.plusYears(1), Event.MAX_EXPENSE.toCents());
+
+        assertEquals(largestDayTotal + Event.MAX_EXPENSE.toCents(), tree.sum(NEW_YEAR, NEW_YEAR.plusYears(1)));
+        assertEquals(largestDayTotal, tree.sum(NEW_YEAR.minusDays(1), NEW_YEAR));
+    }
+}
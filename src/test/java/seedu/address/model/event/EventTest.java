@@ -4,11 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.common.Money;
 import seedu.address.testutil.EventBuilder;
 
 public class EventTest {
@@ -26,6 +28,14 @@ public class EventTest {
         assertEquals(description, event.getDescription());
     }
 
+    @Test
+    public void constructor_expenseAboveMaximum_throwsIllegalArgumentException() {
+        EventBuilder builder = new EventBuilder().withExpense(Event.MAX_EXPENSE.toString());
+        assertEquals(Event.MAX_EXPENSE, builder.build().getExpense());
+        assertThrows(IllegalArgumentException.class, () -> new Event(new EventId("event1"), LocalDate.of(2023, 12, 25),
+                "Christmas Party", Event.MAX_EXPENSE.plus(Money.ofCents(1))));
+    }
+
     @Test
     public void isSameEvent_nullEvent_returnsFalse() {
         Event event = new EventBuilder().build();
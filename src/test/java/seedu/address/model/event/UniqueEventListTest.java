@@ -2,14 +2,19 @@ package seedu.address.model.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+import java.time.Period;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.common.Money;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
 import seedu.address.testutil.EventBuilder;
@@ -187,6 +192,30 @@ public class UniqueEventListTest {
         assertTrue(uniqueEventList.contains(event2));
     }
 
+    @Test
+    public void getEvent_eventIdIndexFollowsChanges() {
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        Event event = new EventBuilder().withEventId("orientation").build();
+        Event renamedEvent = new EventBuilder().withEventId("welcome_tea").build();
+        EventId eventId = new EventId("orientation");
+        EventId renamedEventId = new EventId("welcome_tea");
+        Map<EventId, Event> eventsByEventId = uniqueEventList.asUnmodifiableEventIdMap();
+
+        uniqueEventList.add(event);
+        assertEquals(event, uniqueEventList.getEvent(eventId));
+
+        uniqueEventList.setEvent(event, renamedEvent);
+        assertNull(uniqueEventList.getEvent(eventId));
+        assertEquals(renamedEvent, uniqueEventList.getEvent(renamedEventId));
+
+        uniqueEventList.setEvents(List.of(event));
+        assertEquals(Map.of(eventId, event), eventsByEventId);
+
+        uniqueEventList.remove(event);
+        assertTrue(eventsByEventId.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> eventsByEventId.put(eventId, event));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         UniqueEventList uniqueEventList = new UniqueEventList();
@@ -262,6 +291,94 @@ public class UniqueEventListTest {
         assertEquals(uniqueEventList1.hashCode(), uniqueEventList2.hashCode());
     }
 
+    @Test
+    public void getEventsWithin_followsChanges() {
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        Event march = new EventBuilder().withEventId("March").withDate("2025-03-01").build();
+        Event january = new EventBuilder().withEventId("January").withDate("2025-01-15").build();
+        Event alsoMarch = new EventBuilder().withEventId("AlsoMarch").withDate("2025-03-01").build();
+        uniqueEventList.setEvents(Arrays.asList(march, january));
+        uniqueEventList.add(alsoMarch);
+
+        assertEquals(List.of(january, march, alsoMarch), uniqueEventList.getEventsInDateOrder());
+        assertEquals(List.of(january, march, alsoMarch),
+                uniqueEventList.getEventsWithin(LocalDate.of(2025, 1, 15), LocalDate.of(2025, 3, 1)));
+        assertEquals(List.of(march, alsoMarch),
+                uniqueEventList.getEventsWithin(LocalDate.of(2025, 1, 16), LocalDate.of(2025, 12, 31)));
+        assertEquals(List.of(), uniqueEventList.getEventsWithin(LocalDate.of(2025, 3, 2), LocalDate.of(2025, 1, 1)));
+
+        // editing an event without changing its date keeps its place among the events on that date
+        Event editedMarch = new EventBuilder(march).withDescription("Edited").build();
+        uniqueEventList.setEvent(march, editedMarch);
+        assertEquals(List.of(january, editedMarch, alsoMarch), uniqueEventList.getEventsInDateOrder());
+
+        Event movedJanuary = new EventBuilder(january).withDate("2025-06-30").build();
+        uniqueEventList.setEvent(january, movedJanuary);
+        uniqueEventList.remove(alsoMarch);
+        assertEquals(List.of(editedMarch, movedJanuary), uniqueEventList.getEventsInDateOrder());
+        assertEquals(List.of(movedJanuary),
+                uniqueEventList.getEventsWithin(LocalDate.of(2025, 6, 30), LocalDate.of(2025, 6, 30)));
+    }
+
+    @Test
+    public void getTotalExpenseWithin_followsChanges() {
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        Event january = new EventBuilder().withEventId("January").withDate("2025-01-15").withExpense("10.50").build();
+        Event march = new EventBuilder().withEventId("March").withDate("2025-03-01").withExpense("20").build();
+        uniqueEventList.setEvents(Arrays.asList(january, march));
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        LocalDate end = LocalDate.of(2025, 12, 31);
+
+        assertEquals(Money.parse("30.50"), uniqueEventList.getTotalExpenseWithin(start, end));
+        assertEquals(Money.parse("20"), uniqueEventList.getTotalExpenseWithin(LocalDate.of(2025, 1, 16), end));
+        assertEquals(Money.zero(), uniqueEventList.getTotalExpenseWithin(end, start));
+
+        // setting an expense, moving an event and removing an event all update the totals
+        Event costlierMarch = new EventBuilder(march).withExpense("25.25").build();
+        uniqueEventList.setEvent(march, costlierMarch);
+        Event movedJanuary = new EventBuilder(january).withDate("2026-01-15").build();
+        uniqueEventList.setEvent(january, movedJanuary);
+        assertEquals(Money.parse("25.25"), uniqueEventList.getTotalExpenseWithin(start, end));
+        uniqueEventList.remove(costlierMarch);
+        uniqueEventList.add(new EventBuilder().withDate("2025-02-28").withExpense("4").build());
+        assertEquals(Money.parse("4"), uniqueEventList.getTotalExpenseWithin(start, end));
+        assertEquals(Money.parse("14.50"), uniqueEventList.getTotalExpenseWithin(start, LocalDate.of(2026, 1, 15)));
+    }
+
+    @Test
+    public void getTotalExpenseWithin_largestExpenses_isExact() {
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        String maxExpense = Event.MAX_EXPENSE.toString();
+        uniqueEventList.setEvents(Arrays.asList(
+                new EventBuilder().withEventId("First").withDate("2025-01-01").withExpense(maxExpense).build(),
+                new EventBuilder().withEventId("Second").withDate("2025-01-01").withExpense(maxExpense).build(),
+                new EventBuilder().withEventId("Third").withDate("2025-12-31").withExpense(maxExpense).build()));
+
+        assertEquals(Money.parse("30000000.00"),
+                uniqueEventList.getTotalExpenseWithin(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)));
+    }
+
+    @Test
+    public void getExpenseBreakdownWithin_monthsAndWeeks() {
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        uniqueEventList.setEvents(Arrays.asList(
+                new EventBuilder().withEventId("First").withDate("2025-01-31").withExpense("1").build(),
+                new EventBuilder().withEventId("Second").withDate("2025-02-28").withExpense("2").build(),
+                new EventBuilder().withEventId("Third").withDate("2025-03-30").withExpense("4").build()));
+
+        // months are counted from the start date, so the last period ends early at the end date
+        assertEquals(Map.of(LocalDate.of(2025, 1, 31), Money.parse("1"),
+                        LocalDate.of(2025, 2, 28), Money.parse("6"),
+                        LocalDate.of(2025, 3, 31), Money.zero()),
+                uniqueEventList.getExpenseBreakdownWithin(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 4, 15),
+                        Period.ofMonths(1)));
+        assertEquals(List.of(Money.parse("2"), Money.zero(), Money.zero(), Money.zero(), Money.parse("4")),
+                List.copyOf(uniqueEventList.getExpenseBreakdownWithin(LocalDate.of(2025, 2, 28),
+                        LocalDate.of(2025, 3, 30), Period.ofWeeks(1)).values()));
+        assertThrows(IllegalArgumentException.class, () -> uniqueEventList.getExpenseBreakdownWithin(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), Period.ZERO));
+    }
+
     @Test
     public void toString_returnsInternalListToString() {
         UniqueEventList uniqueEventList = new UniqueEventList();
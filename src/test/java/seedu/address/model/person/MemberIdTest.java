@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class MemberIdTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MemberId(null));
+    }
+
+    @Test
+    public void constructor_invalidMemberId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new MemberId("Alice Pauline"));
+    }
+
+    @Test
+    public void constructor_lowerCase_canonicalisedToUpperCase() {
+        MemberId memberId = new MemberId("a1234567x");
+        assertEquals("A1234567X", memberId.value);
+        assertEquals(new MemberId("A1234567X"), memberId);
+    }
+
+    @Test
+    public void constructor_turkishLocale_canonicalisedToUpperCase() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            assertEquals(new MemberId("A1234567I"), new MemberId("a1234567i"));
+            assertEquals(MemberId.of(new StudentNumber("A1234567I")), MemberId.of(new StudentNumber("a1234567i")));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void canonicalise_lowerCase_matchesConstructedValue() {
+        assertEquals(new MemberId("a1234567x").value, MemberId.canonicalise("a1234567x"));
+    }
+
+    @Test
+    public void of_studentNumber_ignoresCase() {
+        assertEquals(MemberId.of(new StudentNumber("A1234567X")), MemberId.of(new StudentNumber("a1234567x")));
+    }
+
+    @Test
+    public void personMemberId_unchangedByRename() {
+        Person person = new PersonBuilder().withStudentNumber("A1234567X").build();
+        Person renamed = new PersonBuilder(person).withName("Someone Else").build();
+        assertEquals(person.getMemberId(), renamed.getMemberId());
+    }
+
+    @Test
+    public void equals() {
+        MemberId memberId = new MemberId("A1234567X");
+
+        // same values -> returns true
+        assertTrue(memberId.equals(new MemberId("A1234567X")));
+
+        // same object -> returns true
+        assertTrue(memberId.equals(memberId));
+
+        // null -> returns false
+        assertFalse(memberId.equals(null));
+
+        // different types -> returns false
+        assertFalse(memberId.equals(new StudentNumber("A1234567X")));
+
+        // different values -> returns false
+        assertFalse(memberId.equals(new MemberId("B2345678Y")));
+    }
+}
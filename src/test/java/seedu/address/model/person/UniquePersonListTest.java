@@ -47,6 +47,14 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentCaseStudentNumber_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person lowerCaseAlice = new PersonBuilder(ALICE)
+                .withStudentNumber(ALICE.getStudentNumber().value.toLowerCase()).build();
+        assertTrue(uniquePersonList.contains(lowerCaseAlice));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -102,6 +110,16 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityNoLongerContained() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -125,6 +143,7 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
     }
 
     @Test
@@ -139,6 +158,8 @@ public class UniquePersonListTest {
         expectedUniquePersonList.add(BOB);
         uniquePersonList.setPersons(expectedUniquePersonList);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -162,6 +183,26 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void getPersonsByName_followsChanges() {
+        Person aliceTwin = new PersonBuilder(BOB).withName(ALICE.getName().fullName).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(aliceTwin);
+        assertEquals(List.of(ALICE, aliceTwin), uniquePersonList.getPersons(ALICE.getName()));
+
+        // editing a person without renaming them keeps them first among persons with the same name
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice, aliceTwin), uniquePersonList.getPersons(ALICE.getName()));
+
+        uniquePersonList.remove(editedAlice);
+        assertEquals(List.of(aliceTwin), uniquePersonList.getPersons(ALICE.getName()));
+
+        uniquePersonList.setPersons(List.of(BOB));
+        assertEquals(List.of(), uniquePersonList.getPersons(ALICE.getName()));
+        assertEquals(List.of(BOB), uniquePersonList.getPersons(BOB.getName()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
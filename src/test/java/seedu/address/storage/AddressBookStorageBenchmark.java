@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares the size of the data file and the time taken to save and read it in the JSON and binary formats, for a
+ * club of {@value #MEMBER_COUNT} members.
+ * <p>
+ * Skipped unless the environment variable {@code BENCHMARK} is {@code true}, as it takes a while. Run it with
+ * {@code BENCHMARK=true ./gradlew test --tests seedu.address.storage.AddressBookStorageBenchmark}; the results are
+ * printed to the standard output of the test.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+public class AddressBookStorageBenchmark {
+
+    private static final int MEMBER_COUNT = 20_000;
+    private static final int EVENT_COUNT = 20;
+    private static final int ATTENDEES_PER_EVENT = 1_000;
+    private static final int WARM_UP_RUNS = 5;
+    private static final int MEASURED_RUNS = 10;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAndRead_jsonAndBinary() throws Exception {
+        AddressBook addressBook = createAddressBook();
+
+        measure("JSON", new JsonAddressBookStorage(testFolder.resolve("addressbook.json")), addressBook);
+        measure("binary", new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin")), addressBook);
+    }
+
+    private static AddressBook createAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Member " + i)
+                    .withStudentNumber(String.format("A%07dX", i)).withEmail("member" + i + "@example.com")
+                    .withTags("year" + (i % 5)).build());
+        }
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            Event event = new EventBuilder().withEventId("event" + i).withExpense("12.50").build();
+            addressBook.addEvent(event);
+            for (int j = 0; j < ATTENDEES_PER_EVENT; j++) {
+                int member = (i * ATTENDEES_PER_EVENT + j) % MEMBER_COUNT;
+                addressBook.addAttendance(new Attendance(event.getEventId(),
+                        addressBook.getPersonList().get(member).getMemberId(), j % 2 == 0));
+            }
+        }
+        return addressBook;
+    }
+
+    private static void measure(String format, JsonAddressBookStorage storage, AddressBook addressBook)
+            throws Exception {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            storage.saveAddressBook(addressBook);
+            storage.readAddressBook();
+        }
+
+        long[] saveNanos = new long[MEASURED_RUNS];
+        long[] readNanos = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            saveNanos[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            assertEquals(MEMBER_COUNT, storage.readAddressBook().get().getPersonList().size());
+            readNanos[i] = System.nanoTime() - start;
+        }
+
+        System.out.printf("%s: %d KB, median save %d ms, median read %d ms%n", format,
+                Files.size(storage.getAddressBookFilePath()) / 1024, median(saveNanos) / 1_000_000,
+                median(readNanos) / 1_000_000);
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
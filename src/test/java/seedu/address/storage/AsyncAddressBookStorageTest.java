@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_thenRead_returnsSavedData() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+
+        storage.saveAddressBook(original);
+        // the storage works on a copy, so later changes are not written
+        original.addPerson(HOON);
+        storage.flush();
+
+        original.removePerson(HOON);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_writesLatestOnly() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch allowWrites = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> written = new ArrayList<>();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("unused.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        firstWriteStarted.countDown();
+                        assertDoesNotThrow(() -> allowWrites.await());
+                        written.add(addressBook);
+                    }
+                });
+
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+        firstWriteStarted.await();
+        for (int i = 0; i < 5; i++) {
+            addressBook.addPerson(i % 2 == 0 ? HOON : IDA);
+            storage.saveAddressBook(addressBook);
+            addressBook.removePerson(i % 2 == 0 ? HOON : IDA);
+        }
+        allowWrites.countDown();
+        storage.flush();
+
+        // the first save was already being written; the five saves requested meanwhile are collapsed into one
+        assertEquals(2, written.size());
+        AddressBook expected = new AddressBook();
+        expected.addPerson(HOON);
+        assertEquals(expected, written.get(1));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedLists_sharedWithPreviousSave() throws Exception {
+        List<ReadOnlyAddressBook> written = new ArrayList<>();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("unused.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        written.add(addressBook);
+                    }
+                });
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+
+        assertEquals(2, written.size());
+        assertSame(written.get(0).getEventList(), written.get(1).getEventList());
+        assertNotSame(written.get(0).getPersonList(), written.get(1).getPersonList());
+        assertEquals(addressBook, written.get(1));
+    }
+
+    @Test
+    public void flush_failedWrite_throwsOnce() throws Exception {
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("unused.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw new IOException("dummy exception");
+                    }
+                });
+
+        storage.saveAddressBook(new AddressBook());
+        assertThrows(IOException.class, "dummy exception", storage::flush);
+        storage.checkSaveFailure();
+    }
+}
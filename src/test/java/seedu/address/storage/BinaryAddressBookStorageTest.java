@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.withAttendancesLoaded;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.common.Money;
+import seedu.address.model.event.EventId;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private AddressBook original;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.bin");
+        original = getTypicalAddressBook();
+        original.addEvent(new EventBuilder().withEventId("orientation").build());
+        original.addAttendance(new Attendance(new EventId("orientation"), ALICE.getMemberId(), true));
+        original.addAttendance(new Attendance(new EventId("orientation"), BENSON.getMemberId(), false));
+        original.addTask(new Task("Book venue", null));
+        original.addTask(new Task("Print flyers", LocalDateTime.of(2025, 3, 1, 18, 30), true));
+        original.setBudget(new Budget(Money.of(new BigDecimal("250.50")), LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31)));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookReader.isBinaryFile(filePath));
+        assertEquals(original, storage.readAddressBook().get());
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_lazyAttendance_savedWithoutLoading() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] saved = Files.readAllBytes(filePath);
+
+        BinaryAddressBookStorage lazyStorage = new BinaryAddressBookStorage(filePath, true);
+        AddressBook readBack = (AddressBook) lazyStorage.readAddressBook().get();
+        lazyStorage.saveAddressBook(readBack);
+        assertTrue(readBack.getLoadedAttendanceList().isEmpty());
+        assertArrayEquals(saved, Files.readAllBytes(filePath));
+        assertEquals(withAttendancesLoaded(original), withAttendancesLoaded(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_switchBetweenFormats_lossless() throws Exception {
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+        String json = Files.readString(jsonPath);
+
+        // json to binary
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(jsonPath);
+        binaryStorage.saveAddressBook(binaryStorage.readAddressBook().get());
+        assertTrue(BinaryAddressBookReader.isBinaryFile(jsonPath));
+
+        // binary back to json
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonPath);
+        jsonStorage.saveAddressBook(jsonStorage.readAddressBook().get());
+        assertEquals(json, Files.readString(jsonPath));
+    }
+
+    @Test
+    public void saveAddressBook_repeatedValues_smallerThanJson() throws Exception {
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(jsonPath, true).saveAddressBook(original);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertTrue(Files.size(filePath) < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readAddressBook_damagedByte_throwsDataLoadingException() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsIoException() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[4] = 3; // the version follows the four magic bytes
+        Files.write(filePath, bytes);
+
+        assertThrows(IOException.class, String.format(BinaryAddressBookReader.MESSAGE_UNSUPPORTED_VERSION, 3), () ->
+                BinaryAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_versionOneSnapshot_attendanceResolvedByMemberName() throws Exception {
+        // version 1 stored the member name where version 2 stores the member ID, both 9 characters long here
+        Person alice = new PersonBuilder().withName("Alice Tan").withStudentNumber("a1234567x").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(alice);
+        addressBook.addEvent(new EventBuilder().withEventId("orientation").build());
+        addressBook.addAttendance(new Attendance(new EventId("orientation"), alice.getMemberId(), true));
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        int memberIdStart = new String(bytes, StandardCharsets.ISO_8859_1).indexOf("A1234567X");
+        byte[] memberName = "Alice Tan".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(memberName, 0, bytes, memberIdStart, memberName.length);
+        bytes[4] = 1;
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, bytes.length - Integer.BYTES);
+        ByteBuffer.wrap(bytes).putInt(bytes.length - Integer.BYTES, (int) checksum.getValue());
+        Files.write(filePath, bytes);
+
+        assertEquals(addressBook, BinaryAddressBookReader.read(filePath));
+        assertEquals(withAttendancesLoaded(addressBook),
+                withAttendancesLoaded(BinaryAddressBookReader.read(filePath, true)));
+    }
+}
@@ -0,0 +1,242 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.SerializedEventAttendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.common.Money;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final Event ORIENTATION = new EventBuilder().withEventId("orientation").build();
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        String snapshot = Files.readString(filePath);
+
+        original.removePerson(HOON);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        original.setBudget(new Budget(Money.of(new BigDecimal("50")), LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 6, 30)));
+        storage.saveAddressBook(original);
+
+        // only the journal is written
+        assertEquals(snapshot, Files.readString(filePath));
+        assertTrue(Files.exists(journalPath));
+        assertEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+
+        // the journal is appended to after being read back
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        readBack.addPerson(HOON);
+        reopened.saveAddressBook(readBack);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(readBack, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_snapshotsOfChangedBook_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        AddressBook snapshot = original.snapshot(null);
+        storage.saveAddressBook(snapshot);
+        String json = Files.readString(filePath);
+
+        original.removePerson(HOON);
+        snapshot = original.snapshot(snapshot);
+        storage.saveAddressBook(snapshot);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original.snapshot(snapshot));
+
+        assertEquals(json, Files.readString(filePath));
+        assertEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_dataReplaced_rewritesJsonFile() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(IDA);
+        storage.saveAddressBook(original);
+
+        // the changes of data replaced as a whole are not known, so the book is written out in full
+        original.resetData(new AddressBook());
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_unloadedAttendance_notLoaded() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        original.addEvent(ORIENTATION);
+        original.addUnloadedAttendance(new SerializedEventAttendance(ORIENTATION.getEventId(),
+                List.of(ALICE.getMemberId().value), new BitSet()));
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        original.addPerson(BENSON);
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.exists(journalPath));
+        assertTrue(original.getLoadedAttendanceList().isEmpty());
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getAttendanceList(), readBack.getAttendanceList());
+    }
+
+    @Test
+    public void flush_pendingRecords_compactsIntoJsonFile() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(IDA);
+        storage.saveAddressBook(original);
+
+        storage.flush();
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_tornLastRecord_ignored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(IDA);
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+
+        // a record cut short by a crash
+        Files.write(journalPath, "1a2b3c {\"base\":1,\"tar".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        assertEquals(expected, reopened.readAddressBook().get());
+
+        // the next save rewrites the json file instead of appending after the damaged line
+        expected.addPerson(IDA);
+        reopened.saveAddressBook(expected);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(expected, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_damagedRecordFollowedByValidRecords_replaysRecordsBeforeDamage() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(IDA);
+        storage.saveAddressBook(original);
+        AddressBook withoutIda = new AddressBook(original);
+        original.removePerson(HOON);
+        storage.saveAddressBook(original);
+
+        // damages the second record, so that only the first one can be replayed
+        String[] lines = Files.readString(journalPath).split("\n");
+        Files.writeString(journalPath, lines[0] + "\n0 {}\n" + lines[1] + "\n");
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        assertEquals(withoutIda, reopened.readAddressBook().get());
+
+        // the next save rewrites the json file instead of appending after the damaged line
+        reopened.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_appendFailed_nextSaveRewritesJsonFile() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // the journal cannot be written while a directory is in its place
+        Files.createDirectory(journalPath);
+        original.removePerson(IDA);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(original));
+        Files.delete(journalPath);
+
+        original.removePerson(HOON);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_journalWrittenOnEarlierJsonFile_ignored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        String staleJournal = Files.readString(journalPath);
+
+        // compaction interrupted after the json file was rewritten but before the journal was deleted
+        storage.flush();
+        Files.writeString(journalPath, staleJournal);
+
+        assertEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesPlainJson() throws Exception {
+        Path otherPath = testFolder.resolve("Other.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original, otherPath);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(otherPath)));
+        assertEquals(original, new JsonAddressBookStorage(otherPath).readAddressBook().get());
+    }
+}
@@ -84,4 +84,14 @@ public class JsonAdaptedEventTest {
         assertEquals(LocalDate.parse(VALID_DATE), event.getDate());
         assertEquals(VALID_DESCRIPTION, event.getDescription());
     }
+
+    @Test
+    public void toModelType_expenseAboveMaximum_throwsIllegalValueException() throws Exception {
+        assertEquals(Event.MAX_EXPENSE, new JsonAdaptedEvent(VALID_EVENT_ID, VALID_DATE, VALID_DESCRIPTION,
+                "10000000.00").toModelType().getExpense());
+        assertThrows(IllegalValueException.class, new JsonAdaptedEvent(VALID_EVENT_ID, VALID_DATE, VALID_DESCRIPTION,
+                "10000000.01")::toModelType);
+        assertThrows(IllegalValueException.class, new JsonAdaptedEvent(VALID_EVENT_ID, VALID_DATE, VALID_DESCRIPTION,
+                "92233720368547758.08")::toModelType);
+    }
 }
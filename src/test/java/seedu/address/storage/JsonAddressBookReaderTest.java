@@ -0,0 +1,232 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.withAttendancesLoaded;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.common.Money;
+import seedu.address.model.event.EventId;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path NOT_JSON_FILE =
+            Paths.get("src", "test", "data", "JsonAddressBookStorageTest", "notJsonFormatAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_savedAddressBook_matchesOriginal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addEvent(new EventBuilder().withEventId("orientation").build());
+        original.addAttendance(new Attendance(new EventId("orientation"), ALICE.getMemberId(), true));
+        original.addTask(new Task("Book venue", null));
+        original.setBudget(new Budget(Money.of(new BigDecimal("250.50")), LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31)));
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_recordsOfOneMember_shareMemberId() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, "{ \"attendances\": ["
+                + "{ \"eventId\": \"orientation\", \"studentNumber\": \"a1234567x\", \"hasAttended\": true }, "
+                + "{ \"eventId\": \"workshop\", \"studentNumber\": \"A1234567X\", \"hasAttended\": false }] }");
+
+        List<Attendance> attendances = JsonAddressBookReader.read(filePath).getLoadedAttendanceList();
+        assertEquals(2, attendances.size());
+        assertSame(attendances.get(0).getMemberId(), attendances.get(1).getMemberId());
+    }
+
+    @Test
+    public void read_lazyAttendance_attendanceUnloadedUntilNeeded() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addEvent(new EventBuilder().withEventId("orientation").build());
+        original.addEvent(new EventBuilder().withEventId("workshop").build());
+        original.addAttendance(new Attendance(new EventId("orientation"), ALICE.getMemberId(), true));
+        original.addAttendance(new Attendance(new EventId("workshop"), ALICE.getMemberId(), false));
+        original.addAttendance(new Attendance(new EventId("orientation"), BENSON.getMemberId(), false));
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        AddressBook readBack = JsonAddressBookReader.read(filePath, true);
+        assertTrue(readBack.getLoadedAttendanceList().isEmpty());
+        assertEquals(2, readBack.getUnloadedAttendanceList().size());
+        assertEquals(List.of(new Attendance(new EventId("workshop"), ALICE.getMemberId(), false)),
+                readBack.getAttendancesOfEvent(new EventId("workshop")));
+        assertEquals(1, readBack.getUnloadedAttendanceList().size());
+        assertEquals(withAttendancesLoaded(original), withAttendancesLoaded(readBack));
+    }
+
+    @Test
+    public void read_lazyAttendanceDuplicateRecords_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        String attendance = "{ \"eventId\": \"orientation\", \"studentNumber\": \"A1234567X\", "
+                + "\"hasAttended\": true }";
+        Files.writeString(filePath, "{ \"attendances\": [" + attendance + ", " + attendance + "] }");
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_ATTENDANCE, () ->
+                JsonAddressBookReader.read(filePath, true));
+    }
+
+    @Test
+    public void read_lazyAttendanceInvalidRecord_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, "{ \"attendances\": [{ \"eventId\": \"orientation\", "
+                + "\"memberName\": \"Al!ce\", \"hasAttended\": true }] }");
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                JsonAddressBookReader.read(filePath, true));
+    }
+
+    @Test
+    public void read_legacyAttendance_resolvedByMemberName() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        List<JsonAdaptedPerson> persons = List.of(new JsonAdaptedPerson(ALICE), new JsonAdaptedPerson(BENSON));
+        List<JsonAdaptedAttendance> attendances = List.of(
+                new JsonAdaptedAttendance("orientation", null, ALICE.getName().fullName, true),
+                new JsonAdaptedAttendance("workshop", null, BENSON.getName().fullName, false));
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons, null, null, attendances), filePath);
+
+        List<Attendance> expected = List.of(new Attendance(new EventId("orientation"), ALICE.getMemberId(), true),
+                new Attendance(new EventId("workshop"), BENSON.getMemberId(), false));
+        assertEquals(expected, JsonAddressBookReader.read(filePath).getAttendanceList());
+        assertEquals(expected, JsonAddressBookReader.read(filePath, true).getAttendanceList());
+
+        // records are saved by member ID from then on
+        AddressBook migrated = JsonAddressBookReader.read(filePath);
+        new JsonAddressBookStorage(filePath).saveAddressBook(migrated);
+        assertFalse(Files.readString(filePath).contains("memberName"));
+        assertEquals(migrated, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_legacyAttendanceOfKnownMember_resolvedAgainstKnownMembers() throws Exception {
+        Path filePath = testFolder.resolve("attendances.json");
+        Files.writeString(filePath, "{ \"attendances\": [{ \"eventId\": \"orientation\", "
+                + "\"memberName\": \"Alice Pauline\", \"hasAttended\": true }] }");
+
+        assertEquals(List.of(new Attendance(new EventId("orientation"), ALICE.getMemberId(), true)),
+                JsonAddressBookReader.read(filePath, false, List.of(ALICE)).getAttendanceList());
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_legacyAttendanceOfUnknownOrSharedName_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Person aliceNamesake = new PersonBuilder(BENSON).withName(ALICE.getName().fullName).build();
+        List<JsonAdaptedPerson> persons = List.of(new JsonAdaptedPerson(ALICE), new JsonAdaptedPerson(aliceNamesake));
+        List<JsonAdaptedAttendance> attendances = List.of(
+                new JsonAdaptedAttendance("orientation", null, ALICE.getName().fullName, true),
+                new JsonAdaptedAttendance("workshop", null, "Someone Gone", false));
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons, null, null, attendances), filePath);
+
+        String expectedMessage = String.format(LegacyAttendanceResolver.MESSAGE_UNRESOLVED_RECORDS, 2,
+                String.format(LegacyAttendanceResolver.MESSAGE_AMBIGUOUS_MEMBER, ALICE.getName(), "orientation",
+                        ALICE.getMemberId() + ", " + BENSON.getMemberId())
+                + "; " + String.format(LegacyAttendanceResolver.MESSAGE_UNKNOWN_MEMBER, "Someone Gone", "workshop"));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> JsonAddressBookReader.read(filePath));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> JsonAddressBookReader.read(filePath, true));
+    }
+
+    @Test
+    public void read_unknownFieldsAndNullLists_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, "{ \"persons\": [], \"events\": null, \"extra\": { \"nested\": [1, 2] } }");
+
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        persons.add(new JsonAdaptedPerson(ALICE));
+        persons.add(new JsonAdaptedPerson(ALICE));
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons, null, null, null), filePath);
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(NOT_JSON_FILE));
+    }
+
+    @Test
+    public void read_contentChangedAfterChecksum_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String json = Files.readString(filePath);
+        Files.writeString(filePath, json.replace(ALICE.getName().fullName, "Alicia Pauline"));
+
+        assertThrows(IOException.class, JsonAddressBookReader.MESSAGE_CHECKSUM_MISMATCH, () ->
+                JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_largeFile_checksumCheckedWhileStreaming() throws Exception {
+        // large enough for the parser to read ahead of the checksummed bytes many times over
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 2000; i++) {
+            original.addPerson(new PersonBuilder().withName("Member " + i)
+                    .withStudentNumber(String.format("A%07dZ", i)).build());
+        }
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(original, JsonAddressBookReader.read(filePath));
+
+        String json = Files.readString(filePath);
+        Files.writeString(filePath, json.replace("Member 1000\"", "Member 9999\""));
+        assertThrows(IOException.class, JsonAddressBookReader.MESSAGE_CHECKSUM_MISMATCH, () ->
+                JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_invalidChecksum_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, "{ \"persons\": [], \"checksum\": \"not hex\" }");
+
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, "{ \"persons\": [");
+
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+}
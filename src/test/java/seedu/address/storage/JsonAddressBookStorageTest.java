@@ -2,19 +2,28 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.CompressionMode;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.testutil.PersonBuilder;
 
@@ -94,6 +103,125 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_existingFile_previousVersionKeptAsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        String firstVersion = Files.readString(filePath);
+
+        original.removePerson(ALICE);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(firstVersion, Files.readString(JsonAddressBookStorage.getBackupFilePath(filePath)));
+        assertFalse(Files.exists(testFolder.resolve("TempAddressBook.json" + JsonAddressBookStorage.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook previous = new AddressBook(original);
+        original.removePerson(ALICE);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // a write cut short by a crash
+        String json = Files.readString(filePath);
+        Files.writeString(filePath, json.substring(0, json.length() / 2));
+        assertEquals(previous, jsonAddressBookStorage.readAddressBook().get());
+
+        // a crash after the data file was moved aside but before the new file was moved in
+        Files.delete(filePath);
+        assertEquals(previous, jsonAddressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterReadingBackup_damagedFileNotKeptAsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path backupPath = JsonAddressBookStorage.getBackupFilePath(filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        jsonAddressBookStorage.saveAddressBook(original);
+        String backup = Files.readString(backupPath);
+
+        String json = Files.readString(filePath);
+        Files.writeString(filePath, json.substring(0, json.length() / 2));
+        AddressBook readBack = new AddressBook(jsonAddressBookStorage.readAddressBook().get());
+
+        // the backup that was read is kept, while the damaged data file is replaced
+        readBack.removePerson(BENSON);
+        jsonAddressBookStorage.saveAddressBook(readBack);
+        assertEquals(backup, Files.readString(backupPath));
+        assertEquals(readBack, jsonAddressBookStorage.readAddressBook().get());
+
+        // the data file is back to normal, so the next save keeps it as the backup again
+        String saved = Files.readString(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(saved, Files.readString(backupPath));
+    }
+
+    @Test
+    public void saveAddressBook_compressed_readBackAndSmaller() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path plainPath = testFolder.resolve("plain.json");
+        new JsonAddressBookStorage(plainPath).saveAddressBook(original);
+
+        for (CompressionMode compression : List.of(CompressionMode.GZIP, CompressionMode.DEFLATE)) {
+            Path filePath = testFolder.resolve(compression + ".json");
+            new JsonAddressBookStorage(filePath, false, false, compression, 9).saveAddressBook(original);
+
+            assertTrue(Files.size(filePath) < Files.size(plainPath));
+            // compressed files are read whatever compression the storage is given
+            assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+            assertEquals(original, new BinaryAddressBookStorage(filePath).readAddressBook().get());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_compressedFileExtension_compressedAsNamed() throws Exception {
+        Path gzipPath = testFolder.resolve("addressbook.json.gz");
+        Path deflatePath = testFolder.resolve("addressbook.json.zz");
+        new JsonAddressBookStorage(gzipPath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(deflatePath, false, false, CompressionMode.GZIP, 1)
+                .saveAddressBook(getTypicalAddressBook());
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(gzipPath))) {
+            assertEquals('{', in.read());
+        }
+        try (InputStream in = new InflaterInputStream(Files.newInputStream(deflatePath))) {
+            assertEquals('{', in.read());
+        }
+    }
+
+    @Test
+    public void readAddressBook_damagedCompressedFile_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json.gz");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook previous = new AddressBook(original);
+        original.removePerson(ALICE);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertEquals(previous, jsonAddressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_damagedFileAndBackup_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.writeString(filePath, "{ \"persons\": [");
+        Files.writeString(JsonAddressBookStorage.getBackupFilePath(filePath), "not json");
+
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
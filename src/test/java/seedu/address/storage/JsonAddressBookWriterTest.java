@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.common.Money;
+import seedu.address.model.event.EventId;
+import seedu.address.testutil.EventBuilder;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_indented_sameAsSerializableAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addEvent(new EventBuilder().withEventId("orientation").build());
+        addressBook.addAttendance(new Attendance(new EventId("orientation"), ALICE.getMemberId(), true));
+        addressBook.setBudget(new Budget(Money.of(new BigDecimal("80")), LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 3, 31)));
+        Path filePath = testFolder.resolve("addressbook.json");
+
+        JsonAddressBookWriter.write(addressBook, filePath, false);
+
+        String withoutChecksum = Files.readString(filePath).replaceFirst(",\\n  \"checksum\" : \"[0-9a-f]+\"", "");
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)), withoutChecksum);
+    }
+
+    @Test
+    public void write_checksum_coversContentBeforeIt() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+
+        JsonAddressBookWriter.write(getTypicalAddressBook(), filePath, true);
+
+        String json = Files.readString(filePath);
+        int checksumStart = json.lastIndexOf(",\"checksum\":\"");
+        CRC32 expected = new CRC32();
+        expected.update(json.substring(0, checksumStart).getBytes(StandardCharsets.UTF_8));
+        assertTrue(json.endsWith(",\"checksum\":\"" + Long.toHexString(expected.getValue()) + "\"}"));
+    }
+
+    @Test
+    public void write_compact_singleLineReadBack() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Path filePath = testFolder.resolve("addressbook.json");
+
+        JsonAddressBookWriter.write(addressBook, filePath, true);
+
+        assertFalse(Files.readString(filePath).contains("\n"));
+        assertEquals(addressBook, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void write_existingLongerFile_replacesContent() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookWriter.write(getTypicalAddressBook(), filePath, false);
+
+        JsonAddressBookWriter.write(new AddressBook(), filePath, true);
+
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath));
+    }
+}
@@ -15,6 +15,10 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.event.EventId;
+import seedu.address.model.person.MemberId;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
@@ -104,8 +108,7 @@ public class JsonSerializableAddressBookTest {
         JsonAdaptedEvent event = new JsonAdaptedEvent(new EventBuilder().build());
 
         JsonAdaptedAttendance attendance = new JsonAdaptedAttendance(
-                new seedu.address.model.attendance.Attendance(new seedu.address.model.event.EventId("EventA"),
-                new seedu.address.model.person.Name("Alice Pauline")));
+                new Attendance(new EventId("EventA"), new MemberId("A1234567X")));
 
         JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(
             Arrays.asList(person), Arrays.asList(event), new ArrayList<>(), Arrays.asList(attendance));
@@ -119,8 +122,7 @@ public class JsonSerializableAddressBookTest {
     @Test
     public void toModelType_duplicateAttendances_throwsIllegalValueException() {
         JsonAdaptedAttendance attendance = new JsonAdaptedAttendance(
-                new seedu.address.model.attendance.Attendance(new seedu.address.model.event.EventId("EventA"),
-                new seedu.address.model.person.Name("Alice Pauline")));
+                new Attendance(new EventId("EventA"), new MemberId("A1234567X")));
 
         JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(
                 new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
@@ -129,4 +131,29 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, addressBook::toModelType);
     }
 
+    @Test
+    public void toModelType_legacyAttendances_resolvedByMemberName() throws Exception {
+        Person person = new PersonBuilder().withName("Alice Pauline").withStudentNumber("a1234567x").build();
+        JsonAdaptedAttendance legacyAttendance = new JsonAdaptedAttendance("EventA", null, "Alice Pauline", true);
+
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(
+                Arrays.asList(new JsonAdaptedPerson(person)), new ArrayList<>(), new ArrayList<>(),
+                Arrays.asList(legacyAttendance));
+
+        assertEquals(List.of(new Attendance(new EventId("EventA"), person.getMemberId(), true)),
+                addressBook.toModelType().getAttendanceList());
+    }
+
+    @Test
+    public void toModelType_legacyAttendanceOfUnknownMember_throwsIllegalValueException() {
+        Person person = new PersonBuilder().withName("Alice Pauline").build();
+        JsonAdaptedAttendance orphanAttendance = new JsonAdaptedAttendance("EventA", null, "Bob Choo", false);
+
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(
+                Arrays.asList(new JsonAdaptedPerson(person)), new ArrayList<>(), new ArrayList<>(),
+                Arrays.asList(orphanAttendance));
+
+        assertThrows(IllegalValueException.class, addressBook::toModelType);
+    }
+
 }
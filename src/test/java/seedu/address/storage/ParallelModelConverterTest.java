@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelModelConverterTest {
+
+    private static final int SIZE = ParallelModelConverter.CHUNK_SIZE * 10 + 7;
+
+    private static List<String> numbers() {
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            numbers.add(String.valueOf(i));
+        }
+        return numbers;
+    }
+
+    private static Integer parse(String number) throws IllegalValueException {
+        try {
+            return Integer.valueOf(number);
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException("Invalid number " + number);
+        }
+    }
+
+    @Test
+    public void forEachConverted_validElements_passedInOrder() throws Exception {
+        List<Integer> converted = new ArrayList<>();
+        ParallelModelConverter.start(numbers(), ParallelModelConverterTest::parse)
+                .forEachConverted(converted::add);
+
+        assertEquals(SIZE, converted.size());
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(i, (int) converted.get(i));
+        }
+    }
+
+    @Test
+    public void forEachConverted_invalidElements_firstInvalidReportedAfterEarlierElements() {
+        List<String> numbers = numbers();
+        numbers.set(3000, "three thousand");
+        numbers.set(1500, "fifteen hundred");
+        List<Integer> converted = new ArrayList<>();
+
+        assertThrows(IllegalValueException.class, "Invalid number fifteen hundred", () ->
+                ParallelModelConverter.start(numbers, ParallelModelConverterTest::parse)
+                        .forEachConverted(converted::add));
+        assertEquals(1500, converted.size());
+    }
+
+    @Test
+    public void forEachConverted_elementRejectedBeforeInvalidElement_rejectionReported() {
+        List<String> numbers = numbers();
+        numbers.set(1500, "fifteen hundred");
+
+        assertThrows(IllegalValueException.class, "Rejected 1000", () ->
+                ParallelModelConverter.start(numbers, ParallelModelConverterTest::parse)
+                        .forEachConverted(number -> {
+                            if (number == 1000) {
+                                throw new IllegalValueException("Rejected " + number);
+                            }
+                        }));
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TestUtil.withAttendancesLoaded;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.common.Money;
+import seedu.address.model.event.EventId;
+import seedu.address.model.task.Task;
+import seedu.address.storage.ShardedAddressBookStorage.Shard;
+import seedu.address.testutil.EventBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private AddressBook original;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        original = getTypicalAddressBook();
+        original.addEvent(new EventBuilder().withEventId("orientation").build());
+        original.addTask(new Task("Book venue", null));
+        original.setBudget(new Budget(Money.of(new BigDecimal("250.50")), LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31)));
+    }
+
+    @Test
+    public void getShardDirectoryPath() {
+        assertEquals(testFolder.resolve("addressbook"), ShardedAddressBookStorage.getShardDirectoryPath(filePath));
+        assertEquals(testFolder.resolve("data_data"),
+                ShardedAddressBookStorage.getShardDirectoryPath(testFolder.resolve("data")));
+        assertEquals(testFolder.resolve("addressbook"),
+                ShardedAddressBookStorage.getShardDirectoryPath(testFolder.resolve("addressbook.json.gz")));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(filePath));
+        for (Shard shard : Shard.values()) {
+            assertTrue(Files.exists(storage.getShardFilePath(shard)));
+        }
+        assertEquals(original, new ShardedAddressBookStorage(filePath, false).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_oneCollectionChanged_onlyItsFileRewritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false);
+        AddressBook addressBook = new AddressBook(original);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addAttendance(new Attendance(new EventId("orientation"), ALICE.getMemberId(), true));
+        storage.saveAddressBook(addressBook);
+
+        // a rewritten file leaves the previous version behind as its backup
+        assertTrue(Files.exists(JsonAddressBookStorage.getBackupFilePath(storage.getShardFilePath(Shard.ATTENDANCES))));
+        for (Shard shard : new Shard[] {Shard.PERSONS, Shard.EVENTS, Shard.TASKS, Shard.BUDGET}) {
+            assertFalse(Files.exists(JsonAddressBookStorage.getBackupFilePath(storage.getShardFilePath(shard))));
+        }
+        assertEquals(addressBook, new ShardedAddressBookStorage(filePath, false).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_legacyAttendanceFile_resolvedAgainstPersonsFile() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false);
+        storage.saveAddressBook(original);
+        Files.writeString(storage.getShardFilePath(Shard.ATTENDANCES), "{ \"attendances\": [{ "
+                + "\"eventId\": \"orientation\", \"memberName\": \"Alice Pauline\", \"hasAttended\": true }] }");
+
+        original.addAttendance(new Attendance(new EventId("orientation"), ALICE.getMemberId(), true));
+        assertEquals(original, new ShardedAddressBookStorage(filePath, false).readAddressBook().get());
+        assertEquals(withAttendancesLoaded(original),
+                withAttendancesLoaded(new ShardedAddressBookStorage(filePath, false, true).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_noCollectionFiles_readsDataFile() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        storage.saveAddressBook(readBack);
+        assertEquals(original, new ShardedAddressBookStorage(filePath, false).readAddressBook().get());
+        assertTrue(Files.exists(storage.getShardFilePath(Shard.PERSONS)));
+    }
+
+    @Test
+    public void flush_afterSave_writesDataFile() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false);
+        AddressBook addressBook = new AddressBook(original);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void flush_dataFileOlderThanCollectionFiles_rewritesDataFile() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(0));
+        new ShardedAddressBookStorage(filePath, false).saveAddressBook(original);
+
+        // the app stopped without flushing, so only the next run can bring the data file up to date
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false);
+        storage.readAddressBook();
+        storage.flush();
+
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void flush_dataFileUpToDate_dataFileNotRewritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false);
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        ShardedAddressBookStorage nextStorage = new ShardedAddressBookStorage(filePath, false);
+        nextStorage.readAddressBook();
+        nextStorage.flush();
+
+        assertFalse(Files.exists(JsonAddressBookStorage.getBackupFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSingleFile() throws Exception {
+        Path otherPath = testFolder.resolve("Other.json");
+        new ShardedAddressBookStorage(filePath, false).saveAddressBook(original, otherPath);
+
+        assertFalse(Files.exists(ShardedAddressBookStorage.getShardDirectoryPath(otherPath)));
+        assertEquals(original, new JsonAddressBookStorage(otherPath).readAddressBook().get());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.testutil;
 
 import java.time.LocalDate;
 
+import seedu.address.model.common.Money;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
 
@@ -16,6 +17,7 @@ public class EventBuilder {
     private EventId eventId;
     private LocalDate date;
     private String description;
+    private Money expense;
 
     /**
      * Creates a {@code EventBuilder} with the default details.
@@ -24,6 +26,7 @@ public class EventBuilder {
         eventId = new EventId(DEFAULT_EVENT_ID);
         date = LocalDate.parse(DEFAULT_DATE);
         description = DEFAULT_DESCRIPTION;
+        expense = Money.zero();
     }
 
     /**
@@ -33,6 +36,7 @@ public class EventBuilder {
         eventId = eventToCopy.getEventId();
         date = eventToCopy.getDate();
         description = eventToCopy.getDescription();
+        expense = eventToCopy.getExpense();
     }
 
     /**
@@ -59,7 +63,15 @@ public class EventBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code expense} of the {@code Event} that we are building.
+     */
+    public EventBuilder withExpense(String expense) {
+        this.expense = Money.parse(expense);
+        return this;
+    }
+
     public Event build() {
-        return new Event(eventId, date, description);
+        return new Event(eventId, date, description, expense);
     }
 }
@@ -4,9 +4,15 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.Attendance;
 import seedu.address.model.person.Person;
 
 /**
@@ -52,4 +58,18 @@ public class TestUtil {
     public static Person getPerson(Model model, Index index) {
         return model.getFilteredPersonList().get(index.getZeroBased());
     }
+
+    /**
+     * Returns a copy of {@code addressBook} with every attendance record loaded and sorted by event and member, so
+     * that address books holding the same records compare equal however their records were read.
+     */
+    public static AddressBook withAttendancesLoaded(ReadOnlyAddressBook addressBook) {
+        AddressBook copy = new AddressBook(addressBook);
+        List<Attendance> attendances = copy.getAttendanceList().stream()
+                .sorted(Comparator.comparing((Attendance attendance) -> attendance.getEventId().value)
+                        .thenComparing(attendance -> attendance.getMemberId().value))
+                .collect(Collectors.toList());
+        copy.setAttendances(attendances);
+        return copy;
+    }
 }